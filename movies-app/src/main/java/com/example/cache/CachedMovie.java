@@ -0,0 +1,6 @@
+package com.example.cache;
+
+import com.example.dto.MovieInfo;
+
+public record CachedMovie(MovieInfo movieInfo, String etag, boolean fresh) {
+}
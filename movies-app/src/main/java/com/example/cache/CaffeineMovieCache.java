@@ -0,0 +1,117 @@
+package com.example.cache;
+
+import com.example.dto.MovieInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CaffeineMovieCache implements MovieCache {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Long, Entry> cache;
+    private final AtomicLongArray idGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong nameGeneration = new AtomicLong();
+    private final Ticker ticker;
+    private final long timeToLiveNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder staleCount = new LongAdder();
+    private final LongAdder notModifiedCount = new LongAdder();
+
+    public CaffeineMovieCache(long maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, Ticker.systemTicker());
+    }
+
+    public CaffeineMovieCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        this.ticker = ticker;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    @Override
+    public Optional<CachedMovie> get(Long movieId) {
+        var entry = cache.getIfPresent(movieId);
+        if (entry == null) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        boolean fresh = ticker.read() - entry.storedAtNanos() < timeToLiveNanos;
+        (fresh ? hitCount : staleCount).increment();
+        return Optional.of(new CachedMovie(copyOf(entry.movieInfo()), entry.etag(), fresh));
+    }
+
+    @Override
+    public long generation(Long movieId) {
+        // both counters only grow, so their sum changes whenever either is bumped
+        return idGenerations.get(stripe(movieId)) + nameGeneration.get();
+    }
+
+    @Override
+    public void put(Long movieId, MovieInfo movieInfo, String etag, long generation) {
+        var entry = new Entry(copyOf(movieInfo), etag, ticker.read());
+        cache.asMap().compute(movieId, (id, current) -> generation(id) == generation ? entry : current);
+    }
+
+    @Override
+    public void notModified(Long movieId) {
+        notModifiedCount.increment();
+        cache.asMap().computeIfPresent(movieId,
+                (id, entry) -> new Entry(entry.movieInfo(), entry.etag(), ticker.read()));
+    }
+
+    @Override
+    public void invalidate(Long movieId) {
+        cache.asMap().compute(movieId, (id, current) -> {
+            idGenerations.incrementAndGet(stripe(id));
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidateByName(String movieName) {
+        // deletes by name are rare, so a scan of the bounded cache is cheaper than keeping a name index current
+        nameGeneration.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> Objects.equals(entry.movieInfo().getName(), movieName));
+    }
+
+    @Override
+    public MovieCacheStats stats() {
+        return new MovieCacheStats(hitCount.sum(),
+                missCount.sum(),
+                staleCount.sum(),
+                notModifiedCount.sum(),
+                cache.stats().evictionCount());
+    }
+
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private static int stripe(Long movieId) {
+        return Long.hashCode(movieId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static MovieInfo copyOf(MovieInfo movieInfo) {
+        return new MovieInfo(movieInfo.getMovieInfoId(),
+                movieInfo.getName(),
+                movieInfo.getCast(),
+                movieInfo.getReleaseDate(),
+                movieInfo.getYear());
+    }
+
+    private record Entry(MovieInfo movieInfo, String etag, long storedAtNanos) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.cache;
+
+import com.example.dto.MovieInfo;
+
+import java.util.Optional;
+
+public interface MovieCache {
+
+    MovieCache NONE = new MovieCache() {
+        @Override
+        public Optional<CachedMovie> get(Long movieId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long generation(Long movieId) {
+            return 0;
+        }
+
+        @Override
+        public void put(Long movieId, MovieInfo movieInfo, String etag, long generation) {
+        }
+
+        @Override
+        public void notModified(Long movieId) {
+        }
+
+        @Override
+        public void invalidate(Long movieId) {
+        }
+
+        @Override
+        public void invalidateByName(String movieName) {
+        }
+
+        @Override
+        public MovieCacheStats stats() {
+            return new MovieCacheStats(0, 0, 0, 0, 0);
+        }
+    };
+
+    Optional<CachedMovie> get(Long movieId);
+
+    // read before fetching; a put carrying an older generation lost a race with an invalidation and is dropped
+    long generation(Long movieId);
+
+    default void put(Long movieId, MovieInfo movieInfo, String etag) {
+        put(movieId, movieInfo, etag, generation(movieId));
+    }
+
+    void put(Long movieId, MovieInfo movieInfo, String etag, long generation);
+
+    void notModified(Long movieId);
+
+    void invalidate(Long movieId);
+
+    void invalidateByName(String movieName);
+
+    MovieCacheStats stats();
+}
@@ -0,0 +1,13 @@
+package com.example.cache;
+
+public record MovieCacheStats(long hitCount,
+                              long missCount,
+                              long staleCount,
+                              long notModifiedCount,
+                              long evictionCount) {
+
+    public double hitRate() {
+        long requestCount = hitCount + missCount + staleCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+class CatalogReplica {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_YEAR_RANGE = 10_000;
+
+    private final Instant loadedAt;
+    private final int size;
+    private final Map<Long, MovieInfo> byId;
+    private final Map<String, List<MovieInfo>> byName;
+    private final int minYear;
+    private final List<MovieInfo>[] byYear;
+
+    @SuppressWarnings("unchecked")
+    CatalogReplica(Collection<MovieInfo> movies, Instant loadedAt) {
+        this.loadedAt = loadedAt;
+        this.size = movies.size();
+        this.byId = new HashMap<>(Math.max(16, movies.size() * 4 / 3 + 1));
+        this.byName = new HashMap<>(Math.max(16, movies.size() * 4 / 3 + 1));
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (var movie : movies) {
+            if (movie.getMovieInfoId() != null) {
+                byId.put(movie.getMovieInfoId(), movie);
+            }
+            if (movie.getName() != null) {
+                byName.computeIfAbsent(normalizeName(movie.getName()), key -> new ArrayList<>(1)).add(movie);
+            }
+            if (movie.getYear() != null) {
+                min = Math.min(min, movie.getYear());
+                max = Math.max(max, movie.getYear());
+            }
+        }
+        if (min > max) {
+            min = max = 0;
+        }
+        this.minYear = min;
+        if ((long) max - min >= MAX_YEAR_RANGE) {
+            this.byYear = null;
+            return;
+        }
+        this.byYear = new List[max - min + 1];
+        for (var movie : movies) {
+            var year = movie.getYear();
+            if (year != null && year >= minYear && year - minYear < byYear.length) {
+                var index = year - minYear;
+                if (byYear[index] == null) {
+                    byYear[index] = new ArrayList<>();
+                }
+                byYear[index].add(movie);
+            }
+        }
+    }
+
+    static String normalizeName(String name) {
+        var normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).strip().toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    Instant loadedAt() {
+        return loadedAt;
+    }
+
+    int size() {
+        return size;
+    }
+
+    MovieInfo byId(long movieId) {
+        var movie = byId.get(movieId);
+        return movie == null ? null : copyOf(movie);
+    }
+
+    List<MovieInfo> byName(String name) {
+        return copyOf(byName.get(normalizeName(name)));
+    }
+
+    boolean hasYearIndex() {
+        return byYear != null;
+    }
+
+    List<MovieInfo> byYear(int year) {
+        var index = year - minYear;
+        return index >= 0 && index < byYear.length ? copyOf(byYear[index]) : List.of();
+    }
+
+    private static List<MovieInfo> copyOf(List<MovieInfo> movies) {
+        if (movies == null) {
+            return List.of();
+        }
+        var copies = new ArrayList<MovieInfo>(movies.size());
+        for (var movie : movies) {
+            copies.add(copyOf(movie));
+        }
+        return copies;
+    }
+
+    private static MovieInfo copyOf(MovieInfo movieInfo) {
+        return new MovieInfo(movieInfo.getMovieInfoId(),
+                movieInfo.getName(),
+                movieInfo.getCast(),
+                movieInfo.getReleaseDate(),
+                movieInfo.getYear());
+    }
+}
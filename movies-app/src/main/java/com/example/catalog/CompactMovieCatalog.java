@@ -0,0 +1,190 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class CompactMovieCatalog {
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_ID = Long.MIN_VALUE;
+    private static final int NULL_STRING = -1;
+    private static final char CAST_SEPARATOR = ',';
+
+    private final int size;
+    private final long[] ids;
+    private final int[] years;
+    private final int[] releaseEpochDays;
+    private final int[] names;
+    private final int[] castOffsets;
+    private final int[] castMembers;
+    private final String[] strings;
+    private final int[] idOrder;
+
+    private CompactMovieCatalog(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.years = Arrays.copyOf(builder.years, size);
+        this.releaseEpochDays = Arrays.copyOf(builder.releaseEpochDays, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.castOffsets = Arrays.copyOf(builder.castOffsets, size + 1);
+        this.castMembers = Arrays.copyOf(builder.castMembers, builder.castMemberCount);
+        this.strings = builder.stringPool.toArray();
+        this.idOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            idOrder[i] = i;
+        }
+        LongIndexSort.sort(Arrays.copyOf(ids, size), idOrder, size);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static CompactMovieCatalog of(Iterable<MovieInfo> movies) {
+        var builder = builder();
+        movies.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Mono<CompactMovieCatalog> collect(Flux<MovieInfo> movies) {
+        return movies.collect(CompactMovieCatalog::builder, Builder::add).map(Builder::build);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int distinctStrings() {
+        return strings.length;
+    }
+
+    public MovieInfo get(int index) {
+        Objects.checkIndex(index, size);
+        return new MovieInfo(id(index), name(index), cast(index), releaseDate(index), year(index));
+    }
+
+    public Optional<MovieInfo> findById(long movieId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            var midId = ids[idOrder[mid]];
+            if (midId < movieId) {
+                low = mid + 1;
+            } else if (midId > movieId) {
+                high = mid - 1;
+            } else {
+                return Optional.of(get(idOrder[mid]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Stream<MovieInfo> movies() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    private Long id(int index) {
+        return ids[index] == NULL_ID ? null : ids[index];
+    }
+
+    private String name(int index) {
+        return names[index] == NULL_STRING ? null : strings[names[index]];
+    }
+
+    private String cast(int index) {
+        var start = castOffsets[index];
+        var end = castOffsets[index + 1];
+        if (start == end) {
+            return null;
+        }
+        if (end - start == 1) {
+            return strings[castMembers[start]];
+        }
+        var cast = new StringBuilder();
+        for (int i = start; i < end; i++) {
+            if (i > start) {
+                cast.append(CAST_SEPARATOR);
+            }
+            cast.append(strings[castMembers[i]]);
+        }
+        return cast.toString();
+    }
+
+    private LocalDate releaseDate(int index) {
+        return releaseEpochDays[index] == NULL_INT ? null : LocalDate.ofEpochDay(releaseEpochDays[index]);
+    }
+
+    private Integer year(int index) {
+        return years[index] == NULL_INT ? null : years[index];
+    }
+
+    public static class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final StringPool stringPool = new StringPool();
+        private int size;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] years = new int[INITIAL_CAPACITY];
+        private int[] releaseEpochDays = new int[INITIAL_CAPACITY];
+        private int[] names = new int[INITIAL_CAPACITY];
+        private int[] castOffsets = new int[INITIAL_CAPACITY + 1];
+        private int castMemberCount;
+        private int[] castMembers = new int[INITIAL_CAPACITY * 4];
+
+        private Builder() {
+        }
+
+        public Builder add(MovieInfo movie) {
+            if (size == ids.length) {
+                var capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                years = Arrays.copyOf(years, capacity);
+                releaseEpochDays = Arrays.copyOf(releaseEpochDays, capacity);
+                names = Arrays.copyOf(names, capacity);
+                castOffsets = Arrays.copyOf(castOffsets, capacity + 1);
+            }
+            ids[size] = movie.getMovieInfoId() == null ? NULL_ID : movie.getMovieInfoId();
+            years[size] = movie.getYear() == null ? NULL_INT : movie.getYear();
+            releaseEpochDays[size] = movie.getReleaseDate() == null
+                    ? NULL_INT
+                    : Math.toIntExact(movie.getReleaseDate().toEpochDay());
+            names[size] = movie.getName() == null ? NULL_STRING : stringPool.intern(movie.getName());
+            if (movie.getCast() != null) {
+                addCastMembers(movie.getCast());
+            }
+            castOffsets[++size] = castMemberCount;
+            return this;
+        }
+
+        private void addCastMembers(String cast) {
+            int start = 0;
+            while (true) {
+                var end = cast.indexOf(CAST_SEPARATOR, start);
+                addCastMember(stringPool.intern(cast.substring(start, end < 0 ? cast.length() : end)));
+                if (end < 0) {
+                    return;
+                }
+                start = end + 1;
+            }
+        }
+
+        private void addCastMember(int member) {
+            if (castMemberCount == castMembers.length) {
+                castMembers = Arrays.copyOf(castMembers, castMemberCount * 2);
+            }
+            castMembers[castMemberCount++] = member;
+        }
+
+        public CompactMovieCatalog build() {
+            return new CompactMovieCatalog(this);
+        }
+    }
+}
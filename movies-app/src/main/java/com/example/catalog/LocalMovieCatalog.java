@@ -0,0 +1,135 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+import com.example.service.MovieResult;
+import com.example.service.MoviesRestClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+public class LocalMovieCatalog implements AutoCloseable {
+    private final MoviesRestClient moviesRestClient;
+    private final Duration refreshInterval;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private volatile CatalogReplica replica;
+    private ScheduledExecutorService scheduler;
+
+    public LocalMovieCatalog(MoviesRestClient moviesRestClient, Duration refreshInterval, Duration maxStaleness,
+                             Clock clock) {
+        this.moviesRestClient = moviesRestClient;
+        this.refreshInterval = refreshInterval;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    public LocalMovieCatalog(MoviesRestClient moviesRestClient, Duration refreshInterval) {
+        this(moviesRestClient, refreshInterval, refreshInterval.multipliedBy(3), Clock.systemUTC());
+    }
+
+    public synchronized LocalMovieCatalog start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "local-movie-catalog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void refresh() {
+        var startNanos = System.nanoTime();
+        var movies = moviesRestClient.retrieveAllMovies();
+        replica = new CatalogReplica(movies, clock.instant());
+        log.info("Refreshed local movie catalog with {} movies in {} ms", movies.size(),
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Local movie catalog refresh failed, staleness is {}: {}",
+                    staleness().map(Duration::toString).orElse("unloaded"), e.getMessage());
+        }
+    }
+
+    public void load(MovieCatalogSnapshot snapshot) {
+        replica = new CatalogReplica(snapshot.movies().toList(), snapshot.createdAt());
+    }
+
+    public boolean isLoaded() {
+        return replica != null;
+    }
+
+    public int size() {
+        var current = replica;
+        return current == null ? 0 : current.size();
+    }
+
+    public Optional<Instant> lastRefreshed() {
+        return Optional.ofNullable(replica).map(CatalogReplica::loadedAt);
+    }
+
+    public Optional<Duration> staleness() {
+        return lastRefreshed().map(loadedAt -> Duration.between(loadedAt, clock.instant()));
+    }
+
+    public boolean isFresh() {
+        return staleness().filter(staleness -> staleness.compareTo(maxStaleness) <= 0).isPresent();
+    }
+
+    public MovieResult<MovieInfo> findMovieById(Integer movieId) {
+        return lookup(movieId, current -> {
+            var movie = current.byId(movieId.longValue());
+            return movie == null ? MovieResult.notFound() : MovieResult.found(movie);
+        }, () -> moviesRestClient.findMovieById(movieId));
+    }
+
+    public MovieResult<List<MovieInfo>> findMoviesByName(String name) {
+        return lookup(name, current -> toResult(current.byName(name)),
+                () -> moviesRestClient.findMoviesByName(name));
+    }
+
+    public MovieResult<List<MovieInfo>> findMoviesByYear(Integer year) {
+        return lookup(year, current -> current.hasYearIndex()
+                        ? toResult(current.byYear(year))
+                        : moviesRestClient.findMoviesByYear(year),
+                () -> moviesRestClient.findMoviesByYear(year));
+    }
+
+    private <T> MovieResult<T> lookup(Object key, Function<CatalogReplica, MovieResult<T>> local,
+                                      Supplier<MovieResult<T>> remote) {
+        var current = replica;
+        // the indexes have no null keys, so leave null handling to the service
+        if (key == null || current == null || Duration.between(current.loadedAt(), clock.instant()).compareTo(maxStaleness) > 0) {
+            return remote.get();
+        }
+        return local.apply(current);
+    }
+
+    private static MovieResult<List<MovieInfo>> toResult(List<MovieInfo> movies) {
+        return movies.isEmpty() ? MovieResult.notFound() : MovieResult.found(movies);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.catalog;
+
+class LongIndexSort {
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private LongIndexSort() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    // sorts the first size keys ascending and applies the same permutation to indexes, without boxing either
+    static void sort(long[] keys, int[] indexes, int size) {
+        if (size < 2) {
+            return;
+        }
+        mergeSort(keys, indexes, new long[size], new int[size], 0, size);
+    }
+
+    private static void mergeSort(long[] keys, int[] indexes, long[] keyBuffer, int[] indexBuffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, indexes, from, to);
+            return;
+        }
+        var mid = (from + to) >>> 1;
+        mergeSort(keys, indexes, keyBuffer, indexBuffer, from, mid);
+        mergeSort(keys, indexes, keyBuffer, indexBuffer, mid, to);
+        if (keys[mid - 1] <= keys[mid]) {
+            return;
+        }
+        System.arraycopy(keys, from, keyBuffer, from, to - from);
+        System.arraycopy(indexes, from, indexBuffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < mid && keyBuffer[left] <= keyBuffer[right]) {
+                keys[i] = keyBuffer[left];
+                indexes[i] = indexBuffer[left++];
+            } else {
+                keys[i] = keyBuffer[right];
+                indexes[i] = indexBuffer[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] indexes, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            var key = keys[i];
+            var index = indexes[i];
+            int j = i - 1;
+            for (; j >= from && keys[j] > key; j--) {
+                keys[j + 1] = keys[j];
+                indexes[j + 1] = indexes[j];
+            }
+            keys[j + 1] = key;
+            indexes[j + 1] = index;
+        }
+    }
+}
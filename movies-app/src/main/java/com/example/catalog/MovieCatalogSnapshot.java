@@ -0,0 +1,310 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class MovieCatalogSnapshot {
+    private static final int MAGIC = 0x4D564353;
+    private static final short VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES
+            + Long.BYTES + Long.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Long.BYTES;
+    private static final int RECORD_FIXED_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+    private static final int MIN_SEGMENT_SHIFT = 5;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private final Path path;
+    private final int size;
+    private final Instant createdAt;
+    private final int segmentShift;
+    private final long dataLength;
+    private final ByteBuffer[] data;
+    private final ByteBuffer[] ids;
+    private final ByteBuffer[] offsets;
+
+    private MovieCatalogSnapshot(Path path, FileChannel channel, int size, Instant createdAt, int segmentShift,
+                                 long dataLength) throws IOException {
+        this.path = path;
+        this.size = size;
+        this.createdAt = createdAt;
+        this.segmentShift = segmentShift;
+        this.dataLength = dataLength;
+        var idsStart = HEADER_BYTES + dataLength;
+        var offsetsStart = idsStart + (long) size * Long.BYTES;
+        this.data = map(channel, HEADER_BYTES, dataLength, segmentShift);
+        this.ids = map(channel, idsStart, (long) size * Long.BYTES, segmentShift);
+        this.offsets = map(channel, offsetsStart, (long) size * Long.BYTES, segmentShift);
+    }
+
+    // layout: header, records, ids sorted ascending, record offsets in id order. Every section is mapped in
+    // segments of 2^segmentShift bytes and the writer pads so that no record crosses a segment boundary.
+    public static MovieCatalogSnapshot open(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var fileSize = channel.size();
+            if (fileSize < HEADER_BYTES) {
+                throw new IOException("Invalid movie catalog snapshot size " + fileSize + " in " + path);
+            }
+            var header = ByteBuffer.allocate(HEADER_BYTES);
+            channel.read(header, 0);
+            if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getShort(Integer.BYTES) != VERSION) {
+                throw new IOException(path + " is not a version " + VERSION + " movie catalog snapshot");
+            }
+            header.position(Integer.BYTES + Short.BYTES);
+            var segmentShift = header.get();
+            var size = header.getInt();
+            var createdAt = Instant.ofEpochMilli(header.getLong());
+            var dataLength = header.getLong();
+            if (segmentShift < MIN_SEGMENT_SHIFT || segmentShift > DEFAULT_SEGMENT_SHIFT || size < 0
+                    || dataLength < 0 || dataLength > fileSize) {
+                throw new IOException("Corrupt movie catalog snapshot header in " + path);
+            }
+            var expectedSize = HEADER_BYTES + dataLength + (long) size * INDEX_ENTRY_BYTES;
+            if (fileSize != expectedSize) {
+                throw new IOException("Truncated movie catalog snapshot " + path + ": " + fileSize
+                        + " bytes, header describes " + expectedSize);
+            }
+            return new MovieCatalogSnapshot(path, channel, size, createdAt, segmentShift, dataLength);
+        }
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long start, long length, int segmentShift)
+            throws IOException {
+        var segmentBytes = 1L << segmentShift;
+        var segments = new ByteBuffer[(int) ((length + segmentBytes - 1) >>> segmentShift)];
+        for (int i = 0; i < segments.length; i++) {
+            var position = (long) i << segmentShift;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + position,
+                    Math.min(segmentBytes, length - position));
+        }
+        return segments;
+    }
+
+    public static Writer writer(Path path) throws IOException {
+        return writer(path, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static Writer writer(Path path, int segmentShift) throws IOException {
+        return new Writer(path, segmentShift);
+    }
+
+    public static void write(Path path, Collection<MovieInfo> movies) throws IOException {
+        try (var writer = writer(path)) {
+            for (var movie : movies) {
+                writer.add(movie);
+            }
+            writer.commit();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public long movieId(int index) {
+        return readLong(ids, (long) index * Long.BYTES);
+    }
+
+    public MovieInfo get(int index) {
+        Objects.checkIndex(index, size);
+        var offset = readLong(offsets, (long) index * Long.BYTES);
+        if (offset < 0 || offset > dataLength - RECORD_FIXED_BYTES) {
+            throw corrupt(index, offset);
+        }
+        var segment = data[(int) (offset >>> segmentShift)];
+        var position = (int) (offset & ((1L << segmentShift) - 1));
+        if (position + RECORD_FIXED_BYTES > segment.limit()) {
+            throw corrupt(index, offset);
+        }
+        var year = segment.getInt(position);
+        var epochDay = segment.getLong(position + Integer.BYTES);
+        var namePosition = position + Integer.BYTES + Long.BYTES;
+        var nameLength = segment.getInt(namePosition);
+        var castPosition = namePosition + Integer.BYTES + (long) Math.max(0, nameLength);
+        if (nameLength < -1 || castPosition + Integer.BYTES > segment.limit()) {
+            throw corrupt(index, offset);
+        }
+        var castLength = segment.getInt((int) castPosition);
+        if (castLength < -1 || castPosition + Integer.BYTES + Math.max(0, castLength) > segment.limit()) {
+            throw corrupt(index, offset);
+        }
+        var name = readString(segment, namePosition + Integer.BYTES, nameLength);
+        var cast = readString(segment, (int) castPosition + Integer.BYTES, castLength);
+        return new MovieInfo(movieId(index), name, cast,
+                epochDay == NULL_LONG ? null : LocalDate.ofEpochDay(epochDay),
+                year == NULL_INT ? null : year);
+    }
+
+    private IllegalStateException corrupt(int index, long offset) {
+        return new IllegalStateException("Corrupt movie catalog snapshot " + path + ": movie " + index
+                + " has offset " + offset + " outside its records");
+    }
+
+    private long readLong(ByteBuffer[] section, long position) {
+        return section[(int) (position >>> segmentShift)].getLong((int) (position & ((1L << segmentShift) - 1)));
+    }
+
+    private static String readString(ByteBuffer segment, int position, int length) {
+        if (length < 0) {
+            return null;
+        }
+        var bytes = new byte[length];
+        segment.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Optional<MovieInfo> findById(long movieId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            var midId = movieId(mid);
+            if (midId < movieId) {
+                low = mid + 1;
+            } else if (midId > movieId) {
+                high = mid - 1;
+            } else {
+                return Optional.of(get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Stream<MovieInfo> movies() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    public static class Writer implements Closeable {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Path path;
+        private final Path tempFile;
+        private final FileChannel channel;
+        private final DataOutputStream out;
+        private final int segmentShift;
+        private int size;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] offsets = new long[INITIAL_CAPACITY];
+        private long dataLength;
+
+        private Writer(Path path, int segmentShift) throws IOException {
+            if (segmentShift < MIN_SEGMENT_SHIFT || segmentShift > DEFAULT_SEGMENT_SHIFT) {
+                throw new IllegalArgumentException("Segment shift must be between " + MIN_SEGMENT_SHIFT + " and "
+                        + DEFAULT_SEGMENT_SHIFT + ", got " + segmentShift);
+            }
+            this.path = path;
+            this.segmentShift = segmentShift;
+            this.tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(),
+                    ".tmp");
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.write(new byte[HEADER_BYTES]);
+        }
+
+        public void add(MovieInfo movie) throws IOException {
+            if (movie.getMovieInfoId() == null) {
+                return;
+            }
+            var name = encode(movie.getName());
+            var cast = encode(movie.getCast());
+            var recordLength = RECORD_FIXED_BYTES + (name == null ? 0 : name.length) + (cast == null ? 0 : cast.length);
+            var segmentBytes = 1L << segmentShift;
+            if (recordLength > segmentBytes) {
+                throw new IOException("Movie " + movie.getMovieInfoId() + " needs " + recordLength
+                        + " bytes, more than a snapshot segment of " + segmentBytes);
+            }
+            var segmentEnd = (dataLength | (segmentBytes - 1)) + 1;
+            if (dataLength + recordLength > segmentEnd) {
+                out.write(new byte[(int) (segmentEnd - dataLength)]);
+                dataLength = segmentEnd;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            ids[size] = movie.getMovieInfoId();
+            offsets[size++] = dataLength;
+            out.writeInt(Objects.requireNonNullElse(movie.getYear(), NULL_INT));
+            out.writeLong(movie.getReleaseDate() == null ? NULL_LONG : movie.getReleaseDate().toEpochDay());
+            writeString(out, name);
+            writeString(out, cast);
+            dataLength += recordLength;
+        }
+
+        public void commit() throws IOException {
+            var order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            LongIndexSort.sort(ids, order, size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(ids[i]);
+            }
+            for (int i = 0; i < size; i++) {
+                out.writeLong(offsets[order[i]]);
+            }
+            out.flush();
+            var header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .put((byte) segmentShift)
+                    .putInt(size)
+                    .putLong(Instant.now().toEpochMilli())
+                    .putLong(dataLength)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            out.close();
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        // discards the temp file unless commit already moved it into place
+        @Override
+        public void close() throws IOException {
+            try {
+                out.close();
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private static byte[] encode(String value) {
+            return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static void writeString(DataOutputStream out, byte[] value) throws IOException {
+            if (value == null) {
+                out.writeInt(-1);
+                return;
+            }
+            out.writeInt(value.length);
+            out.write(value);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+import com.example.service.MoviesReactiveClient;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+public class PersistentMovieCatalog {
+    private final Path path;
+    private final MoviesReactiveClient moviesReactiveClient;
+    private final AtomicReference<MovieCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    public PersistentMovieCatalog(Path path, MoviesReactiveClient moviesReactiveClient) {
+        this.path = path;
+        this.moviesReactiveClient = moviesReactiveClient;
+        load();
+    }
+
+    private void load() {
+        if (!Files.exists(path)) {
+            log.info("No movie catalog snapshot at {}, waiting for reconciliation", path);
+            return;
+        }
+        var startNanos = System.nanoTime();
+        try {
+            var loaded = MovieCatalogSnapshot.open(path);
+            snapshot.set(loaded);
+            log.info("Loaded {} movies from catalog snapshot {} (created {}) in {} ms", loaded.size(), path,
+                    loaded.createdAt(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable movie catalog snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    public Optional<MovieCatalogSnapshot> snapshot() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    public Mono<MovieCatalogSnapshot> reconcile() {
+        return Mono.using(() -> MovieCatalogSnapshot.writer(path),
+                        writer -> moviesReactiveClient.retrieveAllMovies()
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(movie -> append(writer, movie))
+                                .then(Mono.fromCallable(() -> commit(writer))),
+                        this::discard)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(reconciled -> {
+                    var previous = snapshot.getAndSet(reconciled);
+                    log.info("Reconciled movie catalog snapshot {}: {} movies (previously {})", path,
+                            reconciled.size(), previous == null ? 0 : previous.size());
+                });
+    }
+
+    private void append(MovieCatalogSnapshot.Writer writer, MovieInfo movie) {
+        try {
+            writer.add(movie);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write movie catalog snapshot " + path, e);
+        }
+    }
+
+    private MovieCatalogSnapshot commit(MovieCatalogSnapshot.Writer writer) {
+        try {
+            writer.commit();
+            return MovieCatalogSnapshot.open(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write movie catalog snapshot " + path, e);
+        }
+    }
+
+    private void discard(MovieCatalogSnapshot.Writer writer) {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Failed to remove the temporary movie catalog snapshot for {}: {}", path, e.getMessage());
+        }
+    }
+
+    public Disposable reconcileInBackground(Duration interval) {
+        return Flux.interval(Duration.ZERO, interval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .concatMap(tick -> reconcile()
+                        .doOnError(e -> log.warn("Movie catalog reconciliation failed: {}", e.getMessage()))
+                        .onErrorResume(e -> Mono.empty()))
+                .subscribe();
+    }
+}
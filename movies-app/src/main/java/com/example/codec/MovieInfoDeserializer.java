@@ -0,0 +1,85 @@
+package com.example.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+@Slf4j
+public class MovieInfoDeserializer<T> extends StdDeserializer<T> {
+    private final Factory<T> factory;
+
+    public MovieInfoDeserializer(Class<T> type, Factory<T> factory) {
+        super(type);
+        this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return (T) context.handleUnexpectedToken(handledType(), parser);
+        }
+        Long movieInfoId = null;
+        String name = null;
+        String cast = null;
+        LocalDate releaseDate = null;
+        Integer year = null;
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            var field = parser.currentName();
+            var valueToken = parser.nextToken();
+            switch (field) {
+                case "movieInfoId" -> movieInfoId = valueToken == JsonToken.VALUE_NUMBER_INT
+                        ? Long.valueOf(parser.getLongValue())
+                        : context.readValue(parser, Long.class);
+                case "name" -> name = readString(parser, context);
+                case "cast" -> cast = readString(parser, context);
+                case "release_date" -> releaseDate = readDate(parser, context);
+                case "year" -> year = valueToken == JsonToken.VALUE_NUMBER_INT
+                        ? Integer.valueOf(parser.getIntValue())
+                        : context.readValue(parser, Integer.class);
+                default -> parser.skipChildren();
+            }
+        }
+        return factory.create(movieInfoId, name, cast, releaseDate, year);
+    }
+
+    // objects and arrays go through Jackson, which rejects them, instead of leaving the parser inside them
+    private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        return parser.currentToken().isScalarValue()
+                ? parser.getValueAsString()
+                : context.readValue(parser, String.class);
+    }
+
+    private static LocalDate readDate(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            var text = parser.getText();
+            if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                try {
+                    return LocalDate.of(Integer.parseInt(text, 0, 4, 10),
+                            Integer.parseInt(text, 5, 7, 10),
+                            Integer.parseInt(text, 8, 10, 10));
+                } catch (NumberFormatException | DateTimeException e) {
+                    log.trace("Falling back to Jackson for release_date {}", text);
+                }
+            }
+        }
+        return context.readValue(parser, LocalDate.class);
+    }
+
+    @FunctionalInterface
+    public interface Factory<T> {
+        T create(Long movieInfoId, String name, String cast, LocalDate releaseDate, Integer year);
+    }
+}
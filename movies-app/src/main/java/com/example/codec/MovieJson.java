@@ -0,0 +1,51 @@
+package com.example.codec;
+
+import com.example.dto.MovieInfo;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+
+public class MovieJson {
+    private static final ObjectMapper OBJECT_MAPPER = objectMapper(movieInfoModule());
+
+    private MovieJson() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static SimpleModule movieInfoModule() {
+        return movieInfoModule(MovieInfo.class, MovieInfo::new);
+    }
+
+    public static <T> SimpleModule movieInfoModule(Class<T> type, MovieInfoDeserializer.Factory<T> factory) {
+        return new SimpleModule("MovieInfoModule")
+                .addDeserializer(type, new MovieInfoDeserializer<>(type, factory));
+    }
+
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    public static ObjectMapper objectMapper(Module movieInfoModule) {
+        return Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new BlackbirdModule(), movieInfoModule)
+                .build();
+    }
+
+    public static ExchangeStrategies exchangeStrategies() {
+        return exchangeStrategies(OBJECT_MAPPER);
+    }
+
+    public static ExchangeStrategies exchangeStrategies(ObjectMapper objectMapper) {
+        return ExchangeStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                })
+                .build();
+    }
+}
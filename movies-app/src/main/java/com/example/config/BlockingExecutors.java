@@ -0,0 +1,57 @@
+package com.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class BlockingExecutors {
+    private static final int DEFAULT_FALLBACK_THREADS = 200;
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = lookupVirtualThreadExecutor();
+
+    private BlockingExecutors() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public static ExecutorService newBlockingExecutor() {
+        return newBlockingExecutor(DEFAULT_FALLBACK_THREADS);
+    }
+
+    public static ExecutorService newBlockingExecutor(int fallbackThreads) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                log.warn("Virtual threads are not usable, falling back to {} platform threads", fallbackThreads, e);
+            }
+        }
+        var threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+            var thread = new Thread(runnable, "movies-blocking-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle lookupVirtualThreadExecutor() {
+        try {
+            var handle = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+            // on preview JDKs the method exists but throws unless --enable-preview is set
+            ((ExecutorService) handle.invokeExact()).shutdown();
+            return handle;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.config;
+
+import com.example.codec.MovieJson;
+import com.example.loadbalancer.LoadBalancerFilter;
+import com.example.uri.MovieRequestUris;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Builder
+@Getter
+public class MoviesHttpClientConfig {
+    private final String baseUrl;
+    @Builder.Default
+    private final String poolName = "movies";
+    @Builder.Default
+    private final int maxConnections = 100;
+    @Builder.Default
+    private final int pendingAcquireMaxCount = 1000;
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+    @Builder.Default
+    private final Duration maxIdleTime = Duration.ofSeconds(30);
+    @Builder.Default
+    private final Duration maxLifeTime = Duration.ofMinutes(5);
+    @Builder.Default
+    private final Duration evictInBackground = Duration.ofSeconds(30);
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(5);
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(5);
+    @Builder.Default
+    private final Duration writeTimeout = Duration.ofSeconds(5);
+    @Builder.Default
+    private final boolean http2 = false;
+    @Builder.Default
+    private final boolean compression = true;
+    @Builder.Default
+    private final boolean optimizedCodec = true;
+    @Singular
+    private final List<ExchangeFilterFunction> filters;
+    private final LoadBalancerFilter loadBalancer;
+
+    public ConnectionProvider connectionProvider() {
+        return ConnectionProvider.builder(poolName)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .build();
+    }
+
+    public HttpClient httpClient(ConnectionProvider connectionProvider) {
+        var httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .compress(compression)
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+        return http2 ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11) : httpClient;
+    }
+
+    public WebClient webClient(ConnectionProvider connectionProvider) {
+        return WebClient.builder()
+                .baseUrl(resolvedBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient(connectionProvider)))
+                .exchangeStrategies(optimizedCodec ? MovieJson.exchangeStrategies() : ExchangeStrategies.withDefaults())
+                .filters(exchangeFilters -> {
+                    exchangeFilters.addAll(filters);
+                    if (loadBalancer != null) {
+                        exchangeFilters.add(loadBalancer);
+                    }
+                })
+                .build();
+    }
+
+    public MovieRequestUris requestUris() {
+        return MovieRequestUris.absolute(resolvedBaseUrl());
+    }
+
+    private String resolvedBaseUrl() {
+        return baseUrl == null && loadBalancer != null ? loadBalancer.primaryBaseUrl() : baseUrl;
+    }
+}
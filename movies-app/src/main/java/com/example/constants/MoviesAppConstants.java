@@ -7,7 +7,10 @@ public class MoviesAppConstants {
 
     public static final String GET_ALL_MOVIES_V1 = "/movies/v1/movie_infos";
     public static final String MOVIE_BY_ID_PATH_PARAM_V1 = "/movies/v1/movie_infos/{id}";
+    public static final String MOVIES_BY_IDS_QUERY_PARAM_V1 = "/movies/v1/movie_infos/batch";
     public static final String MOVIE_BY_NAME_QUERY_PARAM_V1 = "/movies/v1/movie_infos/movieName";
     public static final String MOVIE_BY_YEAR_QUERY_PARAM_V1 = "/movies/v1/movie_infos/movieYear";
     public static final String ADD_MOVIE_V1 = "/movies/v1/movie_infos";
+    public static final String ADD_MOVIES_BULK_V1 = "/movies/v1/movie_infos/bulk";
+    public static final String OPERATION_ATTRIBUTE = "movies.operation";
 }
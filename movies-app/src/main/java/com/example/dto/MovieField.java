@@ -0,0 +1,31 @@
+package com.example.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor
+public enum MovieField {
+    MOVIE_INFO_ID("movieInfoId"),
+    NAME("name"),
+    YEAR("year"),
+    CAST("cast"),
+    RELEASE_DATE("release_date");
+
+    public static final String QUERY_PARAM = "fields";
+
+    private final String wireName;
+
+    public static Optional<String> queryValue(Set<MovieField> fields) {
+        return fields.isEmpty()
+                ? Optional.empty()
+                : Optional.of(fields.stream()
+                        .sorted()
+                        .map(MovieField::getWireName)
+                        .collect(Collectors.joining(",")));
+    }
+}
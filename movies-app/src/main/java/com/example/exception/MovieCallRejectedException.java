@@ -0,0 +1,42 @@
+package com.example.exception;
+
+import lombok.Getter;
+
+@Getter
+public class MovieCallRejectedException extends MovieErrorResponse {
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL,
+        RATE_LIMITED,
+        CONCURRENCY_LIMITED
+    }
+
+    private final Reason reason;
+    private final String operation;
+
+    public MovieCallRejectedException(Reason reason, String operation, String message) {
+        super(message);
+        this.reason = reason;
+        this.operation = operation;
+    }
+
+    public static MovieCallRejectedException circuitOpen(String operation, String circuitBreakerName) {
+        return new MovieCallRejectedException(Reason.CIRCUIT_OPEN, operation,
+                "Circuit breaker " + circuitBreakerName + " is open, rejected " + operation);
+    }
+
+    public static MovieCallRejectedException bulkheadFull(String operation, int maxConcurrentCalls) {
+        return new MovieCallRejectedException(Reason.BULKHEAD_FULL, operation,
+                "Bulkhead for " + operation + " is full (" + maxConcurrentCalls + " concurrent calls)");
+    }
+
+    public static MovieCallRejectedException rateLimited(String operation, double permitsPerSecond) {
+        return new MovieCallRejectedException(Reason.RATE_LIMITED, operation,
+                "Rate limit for " + operation + " exceeded (" + permitsPerSecond + " calls per second)");
+    }
+
+    public static MovieCallRejectedException concurrencyLimited(String operation, int limit) {
+        return new MovieCallRejectedException(Reason.CONCURRENCY_LIMITED, operation,
+                "Concurrency limit of " + limit + " reached, rejected " + operation);
+    }
+}
@@ -7,6 +7,10 @@ public class MovieErrorResponse extends RuntimeException {
         super(statusText, e);
     }
 
+    public MovieErrorResponse(String message) {
+        super(message);
+    }
+
     public MovieErrorResponse(Exception e) {
         super(e);
     }
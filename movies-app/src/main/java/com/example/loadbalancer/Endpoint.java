@@ -0,0 +1,105 @@
+package com.example.loadbalancer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+class Endpoint {
+    private static final double LATENCY_DECAY = 0.3;
+
+    @Getter
+    private final URI uri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger ejections = new AtomicInteger();
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private final LongAdder requests = new LongAdder();
+    private volatile boolean ejected;
+    private volatile long ejectedUntilNanos;
+    private volatile double latencyNanos;
+
+    Endpoint(URI uri) {
+        this.uri = uri;
+    }
+
+    URI resolve(URI requestUri) {
+        return UriComponentsBuilder.fromUri(requestUri)
+                .scheme(uri.getScheme())
+                .host(uri.getHost())
+                .port(uri.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    boolean isEjected() {
+        return ejected;
+    }
+
+    boolean tryStartProbe(long nowNanos) {
+        return ejected && nowNanos - ejectedUntilNanos >= 0 && probing.compareAndSet(false, true);
+    }
+
+    double cost() {
+        return (outstanding.get() + 1) * Math.max(1, latencyNanos);
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+        requests.increment();
+    }
+
+    void onFinish() {
+        outstanding.decrementAndGet();
+    }
+
+    void onSuccess(boolean probe, long latencySampleNanos) {
+        synchronized (this) {
+            latencyNanos = latencyNanos == 0
+                    ? latencySampleNanos
+                    : latencyNanos + LATENCY_DECAY * (latencySampleNanos - latencyNanos);
+        }
+        consecutiveFailures.set(0);
+        // only the probe may reinstate; older in-flight requests say nothing about the endpoint's recovery
+        if (probe && probing.compareAndSet(true, false)) {
+            ejected = false;
+            ejections.set(0);
+            log.info("Endpoint {} passed its probe and is back in rotation", uri);
+        }
+    }
+
+    void onFailure(boolean probe, long nowNanos, int failureThreshold, Duration baseEjection, Duration maxEjection) {
+        if (probe && probing.compareAndSet(true, false)) {
+            eject(nowNanos, baseEjection, maxEjection);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold && !ejected) {
+            eject(nowNanos, baseEjection, maxEjection);
+        }
+    }
+
+    void onCancel(boolean probe, long nowNanos, Duration baseEjection, Duration maxEjection) {
+        if (probe && probing.compareAndSet(true, false)) {
+            eject(nowNanos, baseEjection, maxEjection);
+        }
+    }
+
+    private synchronized void eject(long nowNanos, Duration baseEjection, Duration maxEjection) {
+        var count = ejections.incrementAndGet();
+        var ejectionNanos = Math.min(maxEjection.toNanos(), baseEjection.toNanos() << Math.min(count - 1, 20));
+        ejectedUntilNanos = nowNanos + ejectionNanos;
+        ejected = true;
+        log.warn("Ejecting endpoint {} for {} ms after {} consecutive failures", uri,
+                TimeUnit.NANOSECONDS.toMillis(ejectionNanos), consecutiveFailures.get());
+    }
+
+    EndpointSnapshot snapshot() {
+        return new EndpointSnapshot(uri, outstanding.get(), requests.sum(), latencyNanos / 1_000_000.0,
+                consecutiveFailures.get(), ejected);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.loadbalancer;
+
+import java.net.URI;
+
+public record EndpointSnapshot(URI uri,
+                               int outstanding,
+                               long requests,
+                               double latencyMillis,
+                               int consecutiveFailures,
+                               boolean ejected) {
+}
@@ -0,0 +1,148 @@
+package com.example.loadbalancer;
+
+import com.example.resilience.MovieRequests;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class LoadBalancerFilter implements ExchangeFilterFunction {
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_BASE_EJECTION = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_MAX_EJECTION = Duration.ofMinutes(5);
+
+    private final List<Endpoint> endpoints;
+    private final int failureThreshold;
+    private final Duration baseEjection;
+    private final Duration maxEjection;
+    private final LongSupplier nanoClock;
+
+    public LoadBalancerFilter(List<String> baseUrls, int failureThreshold, Duration baseEjection,
+                              Duration maxEjection, LongSupplier nanoClock) {
+        if (baseUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one base URL is required");
+        }
+        this.endpoints = baseUrls.stream().map(URI::create).map(Endpoint::new).toList();
+        this.failureThreshold = failureThreshold;
+        this.baseEjection = baseEjection;
+        this.maxEjection = maxEjection;
+        this.nanoClock = nanoClock;
+    }
+
+    public LoadBalancerFilter(List<String> baseUrls, int failureThreshold, Duration baseEjection,
+                              Duration maxEjection) {
+        this(baseUrls, failureThreshold, baseEjection, maxEjection, System::nanoTime);
+    }
+
+    public LoadBalancerFilter(List<String> baseUrls) {
+        this(baseUrls, DEFAULT_FAILURE_THRESHOLD, DEFAULT_BASE_EJECTION, DEFAULT_MAX_EJECTION);
+    }
+
+    public String primaryBaseUrl() {
+        return endpoints.get(0).getUri().toString();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> exchange(request, next, new HashSet<>()));
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, Set<Endpoint> tried) {
+        var choice = choose(tried);
+        var endpoint = choice.endpoint();
+        var probe = choice.probe();
+        tried.add(endpoint);
+        var routed = ClientRequest.from(request).url(endpoint.resolve(request.url())).build();
+        var finished = new AtomicBoolean();
+        Runnable finish = () -> {
+            if (finished.compareAndSet(false, true)) {
+                endpoint.onFinish();
+            }
+        };
+        endpoint.onStart();
+        Runnable cancel = () -> {
+            finish.run();
+            endpoint.onCancel(probe, nanoClock.getAsLong(), baseEjection, maxEjection);
+        };
+        var startNanos = nanoClock.getAsLong();
+        return next.exchange(routed)
+                .map(response -> {
+                    if (response.rawStatusCode() >= 500) {
+                        endpoint.onFailure(probe, nanoClock.getAsLong(), failureThreshold, baseEjection, maxEjection);
+                    } else {
+                        endpoint.onSuccess(probe, nanoClock.getAsLong() - startNanos);
+                    }
+                    return response.mutate()
+                            .body(body -> body.doOnTerminate(finish).doOnCancel(finish))
+                            .build();
+                })
+                .onErrorResume(e -> {
+                    finish.run();
+                    endpoint.onFailure(probe, nanoClock.getAsLong(), failureThreshold, baseEjection, maxEjection);
+                    if (e instanceof WebClientRequestException && MovieRequests.isIdempotent(request)
+                            && tried.size() < endpoints.size()) {
+                        log.warn("Request to {} failed ({}), failing over to another endpoint",
+                                endpoint.getUri(), e.getMessage());
+                        return exchange(request, next, tried);
+                    }
+                    return Mono.error(e);
+                })
+                .doOnCancel(cancel)
+                .switchIfEmpty(Mono.fromRunnable(cancel));
+    }
+
+    private Choice choose(Set<Endpoint> tried) {
+        var now = nanoClock.getAsLong();
+        var candidates = new ArrayList<Endpoint>(endpoints.size());
+        for (var endpoint : endpoints) {
+            if (tried.contains(endpoint)) {
+                continue;
+            }
+            if (endpoint.tryStartProbe(now)) {
+                return new Choice(endpoint, true);
+            }
+            if (!endpoint.isEjected()) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            endpoints.stream().filter(endpoint -> !tried.contains(endpoint)).forEach(candidates::add);
+        }
+        if (candidates.isEmpty()) {
+            candidates.addAll(endpoints);
+        }
+        if (candidates.size() == 1) {
+            return new Choice(candidates.get(0), false);
+        }
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(candidates.size());
+        var second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var a = candidates.get(first);
+        var b = candidates.get(second);
+        return new Choice(a.cost() <= b.cost() ? a : b, false);
+    }
+
+    public List<EndpointSnapshot> endpoints() {
+        return endpoints.stream().map(Endpoint::snapshot).toList();
+    }
+
+    private record Choice(Endpoint endpoint, boolean probe) {
+    }
+}
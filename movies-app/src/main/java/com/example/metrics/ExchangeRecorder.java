@@ -0,0 +1,8 @@
+package com.example.metrics;
+
+public interface ExchangeRecorder {
+    void recordExchange(String operation, int statusCode, long latencyNanos, long timeToFirstByteNanos,
+                        long decodeNanos, long payloadBytes);
+
+    void recordError(String operation, long latencyNanos);
+}
@@ -0,0 +1,19 @@
+package com.example.metrics;
+
+import org.HdrHistogram.Histogram;
+
+public record HistogramSnapshot(long count, long min, long max, double mean, long p50, long p99, long p999) {
+    public static HistogramSnapshot of(Histogram histogram) {
+        var copy = histogram.copy();
+        if (copy.getTotalCount() == 0) {
+            return new HistogramSnapshot(0, 0, 0, 0, 0, 0, 0);
+        }
+        return new HistogramSnapshot(copy.getTotalCount(),
+                copy.getMinValue(),
+                copy.getMaxValue(),
+                copy.getMean(),
+                copy.getValueAtPercentile(50),
+                copy.getValueAtPercentile(99),
+                copy.getValueAtPercentile(99.9));
+    }
+}
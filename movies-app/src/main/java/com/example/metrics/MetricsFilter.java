@@ -0,0 +1,113 @@
+package com.example.metrics;
+
+import com.example.resilience.MovieRequests;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@RequiredArgsConstructor
+public class MetricsFilter implements ExchangeFilterFunction {
+    private final ExchangeRecorder recorder;
+
+    public MetricsFilter() {
+        this(new MoviesClientMetrics());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        var operation = MovieRequests.operation(request);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnError(e -> recorder.recordError(operation, System.nanoTime() - start))
+                    .map(response -> {
+                        var exchange = new ExchangeTiming(recorder, operation, response.rawStatusCode(),
+                                start, System.nanoTime());
+                        return response.mutate()
+                                .body(body -> body.transform(Operators.<DataBuffer, DataBuffer>lift((scannable, actual) ->
+                                        new BodyRecorder(actual, exchange))))
+                                .build();
+                    });
+        });
+    }
+
+    @RequiredArgsConstructor
+    private static class ExchangeTiming {
+        private final ExchangeRecorder recorder;
+        private final String operation;
+        private final int statusCode;
+        private final long startNanos;
+        private final long headersNanos;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        void record(long decodeNanos, long payloadBytes) {
+            if (recorded.compareAndSet(false, true)) {
+                recorder.recordExchange(operation, statusCode, System.nanoTime() - startNanos,
+                        headersNanos - startNanos, decodeNanos, payloadBytes);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class BodyRecorder implements CoreSubscriber<DataBuffer>, Subscription {
+        private final CoreSubscriber<? super DataBuffer> actual;
+        private final ExchangeTiming exchange;
+        private Subscription upstream;
+        private long decodeNanos;
+        private long payloadBytes;
+
+        @Override
+        public Context currentContext() {
+            return actual.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(DataBuffer dataBuffer) {
+            payloadBytes += dataBuffer.readableByteCount();
+            long start = System.nanoTime();
+            actual.onNext(dataBuffer);
+            decodeNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            actual.onError(throwable);
+            exchange.record(decodeNanos, payloadBytes);
+        }
+
+        @Override
+        public void onComplete() {
+            long start = System.nanoTime();
+            actual.onComplete();
+            decodeNanos += System.nanoTime() - start;
+            exchange.record(decodeNanos, payloadBytes);
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+            exchange.record(decodeNanos, payloadBytes);
+        }
+    }
+}
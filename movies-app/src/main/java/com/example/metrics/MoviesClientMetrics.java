@@ -0,0 +1,36 @@
+package com.example.metrics;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MoviesClientMetrics implements ExchangeRecorder {
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    public OperationMetrics operation(String operation) {
+        return operations.computeIfAbsent(operation, OperationMetrics::new);
+    }
+
+    @Override
+    public void recordExchange(String operation, int statusCode, long latencyNanos, long timeToFirstByteNanos,
+                               long decodeNanos, long payloadBytes) {
+        operation(operation).recordExchange(statusCode, latencyNanos, timeToFirstByteNanos, decodeNanos,
+                payloadBytes);
+    }
+
+    @Override
+    public void recordError(String operation, long latencyNanos) {
+        operation(operation).recordError(latencyNanos);
+    }
+
+    public Optional<OperationMetricsSnapshot> snapshot(String operation) {
+        return Optional.ofNullable(operations.get(operation)).map(OperationMetrics::snapshot);
+    }
+
+    public Map<String, OperationMetricsSnapshot> snapshot() {
+        var snapshots = new TreeMap<String, OperationMetricsSnapshot>();
+        operations.forEach((operation, metrics) -> snapshots.put(operation, metrics.snapshot()));
+        return snapshots;
+    }
+}
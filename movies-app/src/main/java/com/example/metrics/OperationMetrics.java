@@ -0,0 +1,68 @@
+package com.example.metrics;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationMetrics {
+    public static final String IO_ERROR = "io_error";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    @Getter
+    private final String operation;
+    private final LongAdder requests = new LongAdder();
+    private final Map<String, LongAdder> statusClasses = new ConcurrentHashMap<>();
+    private final Histogram latencyMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram timeToFirstByteMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram decodeMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram payloadBytes = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    OperationMetrics(String operation) {
+        this.operation = operation;
+    }
+
+    public static String statusClass(int statusCode) {
+        return statusCode / 100 + "xx";
+    }
+
+    public void recordExchange(int statusCode, long latencyNanos, long timeToFirstByteNanos, long decodeNanos,
+                               long bytes) {
+        recordRequest(statusClass(statusCode), latencyNanos);
+        timeToFirstByteMicros.recordValue(toMicros(timeToFirstByteNanos));
+        decodeMicros.recordValue(toMicros(decodeNanos));
+        payloadBytes.recordValue(bytes);
+    }
+
+    public void recordError(long latencyNanos) {
+        recordRequest(IO_ERROR, latencyNanos);
+    }
+
+    public OperationMetricsSnapshot snapshot() {
+        var statusCounts = new TreeMap<String, Long>();
+        statusClasses.forEach((statusClass, count) -> statusCounts.put(statusClass, count.sum()));
+        return new OperationMetricsSnapshot(operation,
+                requests.sum(),
+                statusCounts,
+                HistogramSnapshot.of(latencyMicros),
+                HistogramSnapshot.of(timeToFirstByteMicros),
+                HistogramSnapshot.of(decodeMicros),
+                HistogramSnapshot.of(payloadBytes));
+    }
+
+    private void recordRequest(String statusClass, long latencyNanos) {
+        latencyMicros.recordValue(toMicros(latencyNanos));
+        statusClasses.computeIfAbsent(statusClass, key -> new LongAdder()).increment();
+        requests.increment();
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.metrics;
+
+import java.util.Map;
+
+public record OperationMetricsSnapshot(String operation,
+                                       long requests,
+                                       Map<String, Long> statusClasses,
+                                       HistogramSnapshot latencyMicros,
+                                       HistogramSnapshot timeToFirstByteMicros,
+                                       HistogramSnapshot decodeMicros,
+                                       HistogramSnapshot payloadBytes) {
+}
@@ -0,0 +1,182 @@
+package com.example.resilience;
+
+import com.example.exception.MovieCallRejectedException;
+import com.example.metrics.HistogramSnapshot;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class AdaptiveConcurrencyFilter implements ExchangeFilterFunction {
+    private static final Set<Integer> DROPPED_STATUSES = Set.of(429, 503, 504);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    @Getter
+    private final VegasLimit limit;
+    private final int maxQueueSize;
+    private final Duration maxQueueWait;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejected = new LongAdder();
+    private final Histogram queueDelayMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final Histogram rttMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    public AdaptiveConcurrencyFilter(VegasLimit limit, int maxQueueSize, Duration maxQueueWait) {
+        this.limit = limit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWait = maxQueueWait;
+    }
+
+    public AdaptiveConcurrencyFilter() {
+        this(new VegasLimit(20, 4, 200), 1000, Duration.ofSeconds(1));
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            var arrivalNanos = System.nanoTime();
+            return acquire(MovieRequests.operation(request))
+                    .then(Mono.defer(() -> {
+                        var startNanos = System.nanoTime();
+                        queueDelayMicros.recordValue(toMicros(startNanos - arrivalNanos));
+                        return exchange(request, next, startNanos);
+                    }));
+        });
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, long startNanos) {
+        var released = new AtomicBoolean();
+        return next.exchange(request)
+                .map(response -> {
+                    var rttNanos = System.nanoTime() - startNanos;
+                    var dropped = DROPPED_STATUSES.contains(response.rawStatusCode());
+                    Runnable release = () -> release(released, rttNanos, dropped);
+                    return response.mutate()
+                            .body(body -> body.doOnTerminate(release).doOnCancel(release))
+                            .build();
+                })
+                .doOnError(e -> release(released, System.nanoTime() - startNanos, true))
+                .doOnCancel(() -> release(released, -1, false))
+                .switchIfEmpty(Mono.fromRunnable(() -> release(released, -1, false)));
+    }
+
+    private Mono<Void> acquire(String operation) {
+        if (waiters.isEmpty() && tryAcquire()) {
+            return Mono.empty();
+        }
+        if (queued.incrementAndGet() > maxQueueSize) {
+            queued.decrementAndGet();
+            return reject(operation);
+        }
+        var waiter = new Waiter();
+        waiters.add(waiter);
+        drain();
+        return waiter.sink.asMono()
+                .timeout(maxQueueWait, Mono.defer(() -> waiter.abandon() ? reject(operation) : Mono.empty()))
+                .doOnCancel(() -> {
+                    if (!waiter.abandon()) {
+                        releasePermit();
+                    }
+                });
+    }
+
+    private Mono<Void> reject(String operation) {
+        rejected.increment();
+        log.warn("Concurrency limit of {} reached, rejecting {}", limit.limit(), operation);
+        return Mono.error(MovieCallRejectedException.concurrencyLimited(operation, limit.limit()));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            var current = inFlight.get();
+            if (current >= limit.limit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(AtomicBoolean released, long rttNanos, boolean dropped) {
+        if (!released.compareAndSet(false, true)) {
+            return;
+        }
+        if (rttNanos >= 0) {
+            rttMicros.recordValue(toMicros(rttNanos));
+            limit.onSample(rttNanos, inFlight.get(), dropped);
+        }
+        releasePermit();
+    }
+
+    private void releasePermit() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            var waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public AdaptiveConcurrencySnapshot snapshot() {
+        return new AdaptiveConcurrencySnapshot(limit.limit(),
+                inFlight.get(),
+                queued.get(),
+                rejected.sum(),
+                HistogramSnapshot.of(queueDelayMicros),
+                HistogramSnapshot.of(rttMicros));
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos));
+    }
+
+    private class Waiter {
+        private final Sinks.Empty<Void> sink = Sinks.empty();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        boolean grant() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            queued.decrementAndGet();
+            sink.tryEmitEmpty();
+            return true;
+        }
+
+        boolean abandon() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            queued.decrementAndGet();
+            waiters.remove(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.resilience;
+
+import com.example.metrics.HistogramSnapshot;
+
+public record AdaptiveConcurrencySnapshot(int limit,
+                                          int inFlight,
+                                          int queued,
+                                          long rejected,
+                                          HistogramSnapshot queueDelayMicros,
+                                          HistogramSnapshot rttMicros) {
+}
@@ -0,0 +1,78 @@
+package com.example.resilience;
+
+import com.example.exception.MovieCallRejectedException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class BulkheadFilter implements ExchangeFilterFunction {
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Map<String, BulkheadConfig> operationConfigs;
+    private final Map<String, LongAdder> rejectedCounts = new ConcurrentHashMap<>();
+
+    public BulkheadFilter(BulkheadConfig defaultConfig, Map<String, BulkheadConfig> operationConfigs) {
+        this.bulkheadRegistry = BulkheadRegistry.of(defaultConfig);
+        this.operationConfigs = Map.copyOf(operationConfigs);
+    }
+
+    public BulkheadFilter(int maxConcurrentCalls) {
+        this(config(maxConcurrentCalls), Map.of());
+    }
+
+    public static BulkheadConfig config(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            var operation = MovieRequests.operation(request);
+            var bulkhead = bulkhead(operation);
+            if (!bulkhead.tryAcquirePermission()) {
+                rejectedCounts.computeIfAbsent(operation, key -> new LongAdder()).increment();
+                log.warn("Bulkhead for {} is full, rejecting call", operation);
+                return Mono.error(MovieCallRejectedException.bulkheadFull(
+                        operation, bulkhead.getBulkheadConfig().getMaxConcurrentCalls()));
+            }
+            var released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            };
+            return next.exchange(request)
+                    .map(response -> response.mutate()
+                            .body(body -> body.doOnTerminate(release).doOnCancel(release))
+                            .build())
+                    .doOnError(e -> release.run())
+                    .doOnCancel(release)
+                    .switchIfEmpty(Mono.fromRunnable(release));
+        });
+    }
+
+    public Bulkhead bulkhead(String operation) {
+        var config = operationConfigs.get(operation);
+        return config == null ? bulkheadRegistry.bulkhead(operation) : bulkheadRegistry.bulkhead(operation, config);
+    }
+
+    public long rejectedCount(String operation) {
+        var rejected = rejectedCounts.get(operation);
+        return rejected == null ? 0 : rejected.sum();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.resilience;
+
+import com.example.exception.MovieCallRejectedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+public class CircuitBreakerFilter implements ExchangeFilterFunction {
+    @Getter
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerFilter(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("Circuit breaker {} changed state: {}",
+                        event.getCircuitBreakerName(), event.getStateTransition()));
+    }
+
+    public CircuitBreakerFilter(String name) {
+        this(CircuitBreaker.of(name, defaultConfig()));
+    }
+
+    public static CircuitBreakerConfig defaultConfig() {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofSeconds(2))
+                .waitDurationInOpenState(Duration.ofSeconds(10))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(MovieCallRejectedException.circuitOpen(
+                        MovieRequests.operation(request), circuitBreaker.getName()));
+            }
+            long start = System.nanoTime();
+            var recorded = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnSuccess(response -> {
+                        if (!recorded.compareAndSet(false, true)) {
+                            return;
+                        }
+                        long duration = System.nanoTime() - start;
+                        if (response == null) {
+                            circuitBreaker.releasePermission();
+                        } else if (response.rawStatusCode() >= 500) {
+                            circuitBreaker.onError(duration, TimeUnit.NANOSECONDS,
+                                    new ServerErrorStatusException(response.rawStatusCode()));
+                        } else {
+                            circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            circuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    public long rejectedCount() {
+        return circuitBreaker.getMetrics().getNumberOfNotPermittedCalls();
+    }
+
+    private static class ServerErrorStatusException extends RuntimeException {
+        ServerErrorStatusException(int statusCode) {
+            super("Server error status " + statusCode, null, false, false);
+        }
+    }
+}
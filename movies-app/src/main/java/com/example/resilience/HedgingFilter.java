@@ -0,0 +1,83 @@
+package com.example.resilience;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Builder
+public class HedgingFilter implements ExchangeFilterFunction {
+    @Builder.Default
+    private final double percentile = 0.95;
+    @Builder.Default
+    private final Duration minDelay = Duration.ofMillis(10);
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(1);
+    @Builder.Default
+    private final int windowSize = 1000;
+    @Builder.Default
+    private final int warmupRequests = 20;
+    @Builder.Default
+    private final RetryBudget hedgeBudget = new RetryBudget(0.1, 10);
+    // sized from the builder values, so it is created on first use rather than in a field initializer
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final LatencyWindow latencies = new LatencyWindow(windowSize, percentile);
+    private final LongAdder hedgeCount = new LongAdder();
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            hedgeBudget.onRequest();
+            var primary = timed(next.exchange(request));
+            if (getLatencies().recorded() < warmupRequests) {
+                return primary;
+            }
+            var hedge = Mono.delay(hedgeDelay())
+                    .filter(tick -> hedgeBudget.tryWithdraw())
+                    .flatMap(tick -> {
+                        hedgeCount.increment();
+                        log.debug("Hedging {} {}", request.method(), request.url());
+                        return timed(next.exchange(request));
+                    });
+            return Mono.firstWithValue(primary, hedge)
+                    .doOnDiscard(ClientResponse.class, response -> response.releaseBody().subscribe())
+                    .onErrorMap(NoSuchElementException.class, e -> e.getCause() == null
+                            ? e
+                            : Exceptions.unwrapMultiple(e.getCause()).get(0));
+        });
+    }
+
+    public Duration hedgeDelay() {
+        var delay = getLatencies().percentile(maxDelay);
+        if (delay.compareTo(minDelay) < 0) {
+            return minDelay;
+        }
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+
+    public long hedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    private Mono<ClientResponse> timed(Mono<ClientResponse> exchange) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return exchange.doOnNext(response -> getLatencies().record(Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+}
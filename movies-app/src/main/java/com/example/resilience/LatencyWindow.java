@@ -0,0 +1,47 @@
+package com.example.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LatencyWindow {
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final int recomputeEvery;
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    LatencyWindow(int size, double percentile) {
+        this.samples = new AtomicLongArray(size);
+        this.recomputeEvery = Math.max(1, size / 10);
+        this.percentile = percentile;
+    }
+
+    void record(Duration latency) {
+        long count = recorded.getAndIncrement();
+        samples.set((int) (count % samples.length()), latency.toNanos());
+        if ((count + 1) % recomputeEvery == 0) {
+            percentileNanos = computePercentile(Math.min(count + 1, samples.length()));
+        }
+    }
+
+    long recorded() {
+        return recorded.get();
+    }
+
+    Duration percentile(Duration fallback) {
+        long nanos = percentileNanos;
+        return nanos < 0 ? fallback : Duration.ofNanos(nanos);
+    }
+
+    private long computePercentile(long size) {
+        var copy = new long[(int) size];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * copy.length) - 1;
+        return copy[Math.max(0, index)];
+    }
+}
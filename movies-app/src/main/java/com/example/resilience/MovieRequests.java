@@ -0,0 +1,31 @@
+package com.example.resilience;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+
+import java.util.Set;
+
+import static com.example.constants.MoviesAppConstants.OPERATION_ATTRIBUTE;
+
+public class MovieRequests {
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.DELETE);
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+    private MovieRequests() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isIdempotent(ClientRequest request) {
+        return IDEMPOTENT_METHODS.contains(request.method());
+    }
+
+    public static boolean isRead(ClientRequest request) {
+        return READ_METHODS.contains(request.method());
+    }
+
+    public static String operation(ClientRequest request) {
+        return request.attribute(OPERATION_ATTRIBUTE)
+                .map(String::valueOf)
+                .orElseGet(() -> request.method() + " " + request.url().getPath());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.resilience;
+
+import java.time.Duration;
+
+public record RateLimit(double permitsPerSecond, int burst, Duration maxWait) {
+
+    public static RateLimit failFast(double permitsPerSecond, int burst) {
+        return new RateLimit(permitsPerSecond, burst, Duration.ZERO);
+    }
+
+    public static RateLimit waiting(double permitsPerSecond, int burst, Duration maxWait) {
+        return new RateLimit(permitsPerSecond, burst, maxWait);
+    }
+
+    TokenBucket newBucket() {
+        return new TokenBucket(permitsPerSecond, burst);
+    }
+}
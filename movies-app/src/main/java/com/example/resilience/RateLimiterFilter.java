@@ -0,0 +1,114 @@
+package com.example.resilience;
+
+import com.example.exception.MovieCallRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class RateLimiterFilter implements ExchangeFilterFunction {
+    private static final Set<Integer> THROTTLING_STATUSES = Set.of(429, 503);
+    private static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofMinutes(1);
+
+    private final Quota readQuota;
+    private final Quota writeQuota;
+    private final Duration maxRetryAfter;
+    private final Map<String, Quota> quotas = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejectedCounts = new ConcurrentHashMap<>();
+
+    public RateLimiterFilter(RateLimit readLimit, RateLimit writeLimit, Map<String, RateLimit> operationLimits,
+                             Duration maxRetryAfter) {
+        this.readQuota = new Quota(readLimit, readLimit.newBucket());
+        this.writeQuota = new Quota(writeLimit, writeLimit.newBucket());
+        this.maxRetryAfter = maxRetryAfter;
+        operationLimits.forEach((operation, limit) -> quotas.put(operation, new Quota(limit, limit.newBucket())));
+    }
+
+    public RateLimiterFilter(RateLimit readLimit, RateLimit writeLimit, Map<String, RateLimit> operationLimits) {
+        this(readLimit, writeLimit, operationLimits, DEFAULT_MAX_RETRY_AFTER);
+    }
+
+    public RateLimiterFilter(RateLimit limit) {
+        this(limit, limit, Map.of());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            var operation = MovieRequests.operation(request);
+            var quota = quota(operation, request);
+            var waitNanos = quota.bucket().tryReserve(quota.limit().maxWait());
+            if (waitNanos == TokenBucket.REJECTED) {
+                rejectedCounts.computeIfAbsent(operation, key -> new LongAdder()).increment();
+                log.warn("Rate limit for {} exceeded, rejecting call", operation);
+                return Mono.error(MovieCallRejectedException.rateLimited(operation, quota.limit().permitsPerSecond()));
+            }
+            var exchange = next.exchange(request).doOnNext(this::applyRetryAfter);
+            return waitNanos == 0 ? exchange : Mono.delay(Duration.ofNanos(waitNanos)).then(exchange);
+        });
+    }
+
+    private Quota quota(String operation, ClientRequest request) {
+        return quotas.computeIfAbsent(operation, key -> MovieRequests.isRead(request) ? readQuota : writeQuota);
+    }
+
+    private void applyRetryAfter(ClientResponse response) {
+        if (!THROTTLING_STATUSES.contains(response.rawStatusCode())) {
+            return;
+        }
+        response.headers().header(HttpHeaders.RETRY_AFTER).stream()
+                .findFirst()
+                .flatMap(RateLimiterFilter::parseRetryAfter)
+                .filter(retryAfter -> !retryAfter.isNegative() && !retryAfter.isZero())
+                .map(retryAfter -> retryAfter.compareTo(maxRetryAfter) > 0 ? maxRetryAfter : retryAfter)
+                .ifPresent(retryAfter -> {
+                    log.info("Movies service responded with {}, pausing calls for {}",
+                            response.rawStatusCode(), retryAfter);
+                    readQuota.bucket().pauseFor(retryAfter);
+                    writeQuota.bucket().pauseFor(retryAfter);
+                    quotas.values().forEach(quota -> quota.bucket().pauseFor(retryAfter));
+                });
+    }
+
+    static Optional<Duration> parseRetryAfter(String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                var date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Optional.of(Duration.between(Instant.now(), date.toInstant()));
+            } catch (DateTimeParseException ex) {
+                log.debug("Ignoring unparseable Retry-After header {}", value);
+                return Optional.empty();
+            }
+        }
+    }
+
+    public long availablePermits(String operation) {
+        var quota = quotas.get(operation);
+        return quota == null ? -1 : quota.bucket().availablePermits();
+    }
+
+    public long rejectedCount(String operation) {
+        var rejected = rejectedCounts.get(operation);
+        return rejected == null ? 0 : rejected.sum();
+    }
+
+    private record Quota(RateLimit limit, TokenBucket bucket) {
+    }
+}
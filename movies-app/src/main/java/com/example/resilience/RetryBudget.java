@@ -0,0 +1,41 @@
+package com.example.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double retryRatio, int maxRetries) {
+        this.depositPerRequest = Math.round(retryRatio * SCALE);
+        this.maxBalance = maxRetries * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    public static RetryBudget unlimited() {
+        return new RetryBudget(1, Integer.MAX_VALUE / (int) SCALE);
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.resilience;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Builder
+public class RetryFilter implements ExchangeFilterFunction {
+    @Builder.Default
+    private final int maxAttempts = 3;
+    @Builder.Default
+    private final Duration firstBackoff = Duration.ofMillis(50);
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(1);
+    @Builder.Default
+    private final double jitterFactor = 0.5;
+    @Builder.Default
+    private final Set<Integer> retryableStatuses = Set.of(500, 502, 503, 504);
+    @Builder.Default
+    private final RetryBudget retryBudget = new RetryBudget(0.2, 10);
+    private final LongAdder retryCount = new LongAdder();
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!MovieRequests.isIdempotent(request)) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            retryBudget.onRequest();
+            var attempts = new AtomicInteger(1);
+            return next.exchange(request)
+                    .flatMap(response -> {
+                        if (retryableStatuses.contains(response.rawStatusCode()) && canRetry(attempts)) {
+                            return response.releaseBody()
+                                    .then(Mono.error(new RetryableStatusException(response.rawStatusCode())));
+                        }
+                        return Mono.just(response);
+                    })
+                    .retryWhen(Retry.backoff(Long.MAX_VALUE, firstBackoff)
+                            .maxBackoff(maxBackoff)
+                            .jitter(jitterFactor)
+                            .filter(e -> e instanceof RetryableStatusException
+                                    || e instanceof WebClientRequestException && canRetry(attempts))
+                            .doBeforeRetry(signal -> {
+                                retryCount.increment();
+                                log.warn("Retrying {} {} after {}", request.method(), request.url(),
+                                        signal.failure().toString());
+                            }));
+        });
+    }
+
+    public long retryCount() {
+        return retryCount.sum();
+    }
+
+    private boolean canRetry(AtomicInteger attempts) {
+        if (attempts.get() >= maxAttempts || !retryBudget.tryWithdraw()) {
+            return false;
+        }
+        attempts.incrementAndGet();
+        return true;
+    }
+
+    private static class RetryableStatusException extends RuntimeException {
+        RetryableStatusException(int statusCode) {
+            super("Retryable status " + statusCode, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucket {
+    public static final long REJECTED = -1;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextFreeNanos;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    public TokenBucket(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = new AtomicLong(nanoClock.getAsLong() - burstNanos);
+    }
+
+    public boolean tryAcquire() {
+        return tryReserve(Duration.ZERO) == 0;
+    }
+
+    public long tryReserve(Duration maxWait) {
+        var maxWaitNanos = maxWait.toNanos();
+        while (true) {
+            var now = nanoClock.getAsLong();
+            var current = nextFreeNanos.get();
+            var next = Math.max(current, now - burstNanos) + intervalNanos;
+            var waitNanos = next - now;
+            if (waitNanos > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (nextFreeNanos.compareAndSet(current, next)) {
+                return Math.max(0, waitNanos);
+            }
+        }
+    }
+
+    public void pauseFor(Duration duration) {
+        var resumeAt = nanoClock.getAsLong() + duration.toNanos() - intervalNanos;
+        nextFreeNanos.accumulateAndGet(resumeAt, Math::max);
+    }
+
+    public long availablePermits() {
+        var elapsed = nanoClock.getAsLong() - nextFreeNanos.get();
+        return Math.max(0, Math.min(elapsed, burstNanos) / intervalNanos);
+    }
+}
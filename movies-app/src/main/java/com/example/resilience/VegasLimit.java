@@ -0,0 +1,70 @@
+package com.example.resilience;
+
+public class VegasLimit {
+    private static final int DEFAULT_PROBE_INTERVAL = 1000;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeInterval;
+    private final double backoffRatio;
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private int samplesSinceProbe;
+    private volatile int limit;
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit, int probeInterval, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public VegasLimit(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, DEFAULT_PROBE_INTERVAL, DEFAULT_BACKOFF_RATIO);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public synchronized long noLoadRttNanos() {
+        return noLoadRttNanos;
+    }
+
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            update(estimatedLimit * backoffRatio);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (++samplesSinceProbe >= probeInterval) {
+            samplesSinceProbe = 0;
+            noLoadRttNanos = rttNanos;
+        } else if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+        if (inFlight * 2 < estimatedLimit) {
+            return;
+        }
+        var queueSize = Math.ceil(estimatedLimit * (1 - (double) noLoadRttNanos / rttNanos));
+        var step = Math.max(1, Math.log10(estimatedLimit));
+        if (queueSize <= 3 * step) {
+            update(estimatedLimit + step);
+        } else if (queueSize >= 6 * step) {
+            update(estimatedLimit - step);
+        }
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
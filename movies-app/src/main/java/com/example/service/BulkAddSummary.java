@@ -0,0 +1,21 @@
+package com.example.service;
+
+import lombok.Builder;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.List;
+
+@Builder
+public record BulkAddSummary(@Singular List<Long> createdIds,
+                             @Singular List<MovieAddFailure> failures,
+                             Duration elapsed) {
+
+    public long processedCount() {
+        return createdIds.size() + (long) failures.size();
+    }
+
+    public double moviesPerSecond() {
+        return elapsed.isZero() ? 0 : processedCount() * 1_000_000_000.0 / elapsed.toNanos();
+    }
+}
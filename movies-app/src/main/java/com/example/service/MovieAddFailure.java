@@ -0,0 +1,7 @@
+package com.example.service;
+
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+
+public record MovieAddFailure(MovieInfo movieInfo, MovieErrorResponse error) {
+}
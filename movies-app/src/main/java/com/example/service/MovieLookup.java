@@ -0,0 +1,19 @@
+package com.example.service;
+
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+
+public record MovieLookup(Long movieId, MovieInfo movieInfo, MovieErrorResponse error) {
+
+    public static MovieLookup found(Long movieId, MovieInfo movieInfo) {
+        return new MovieLookup(movieId, movieInfo, null);
+    }
+
+    public static MovieLookup failed(Long movieId, MovieErrorResponse error) {
+        return new MovieLookup(movieId, null, error);
+    }
+
+    public boolean isFound() {
+        return error == null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.service;
+
+import com.example.dto.MovieField;
+import com.example.dto.MovieInfo;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class MoviePageIterator implements Iterator<MovieInfo>, AutoCloseable {
+    private final MoviesReactiveClient moviesReactiveClient;
+    private final int pageSize;
+    private final boolean prefetch;
+    private final Set<MovieField> fields;
+    private Iterator<MovieInfo> page = Collections.emptyIterator();
+    private CompletableFuture<List<MovieInfo>> nextPage;
+    private Long lastMovieId;
+    private boolean lastPage;
+
+    MoviePageIterator(MoviesReactiveClient moviesReactiveClient, int pageSize, boolean prefetch,
+                      Set<MovieField> fields) {
+        checkPageSize(pageSize);
+        this.moviesReactiveClient = moviesReactiveClient;
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+        this.fields = fields;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (lastPage) {
+                return false;
+            }
+            advance();
+        }
+        return true;
+    }
+
+    @Override
+    public MovieInfo next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    @Override
+    public void close() {
+        lastPage = true;
+        page = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private void advance() {
+        var movies = await(nextPage != null ? nextPage : fetch());
+        nextPage = null;
+        page = movies.iterator();
+        // the server may cap the page size, so only an empty page marks the end of the catalog
+        lastPage = movies.isEmpty();
+        if (!lastPage) {
+            lastMovieId = lastMovieId(movies);
+        }
+        if (prefetch && !lastPage) {
+            nextPage = fetch();
+        }
+    }
+
+    private CompletableFuture<List<MovieInfo>> fetch() {
+        return moviesReactiveClient.retrieveMoviesPage(lastMovieId, pageSize, fields).toFuture();
+    }
+
+    private static List<MovieInfo> await(CompletableFuture<List<MovieInfo>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    static Long lastMovieId(List<MovieInfo> page) {
+        return page.get(page.size() - 1).getMovieInfoId();
+    }
+
+    static void checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+    }
+}
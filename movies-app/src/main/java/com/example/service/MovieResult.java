@@ -0,0 +1,50 @@
+package com.example.service;
+
+import com.example.exception.MovieErrorResponse;
+
+public sealed interface MovieResult<T>
+        permits MovieResult.Found, MovieResult.NotFound, MovieResult.ClientError, MovieResult.ServerError {
+
+    @SuppressWarnings("rawtypes")
+    NotFound NOT_FOUND = new NotFound<>();
+
+    static <T> MovieResult<T> found(T value) {
+        return new Found<>(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> MovieResult<T> notFound() {
+        return NOT_FOUND;
+    }
+
+    static <T> MovieResult<T> error(int status, String body) {
+        return status >= 500 ? new ServerError<>(status, body) : new ClientError<>(status, body);
+    }
+
+    default boolean isFound() {
+        return this instanceof Found;
+    }
+
+    default T orElse(T other) {
+        return this instanceof Found<T> found ? found.value() : other;
+    }
+
+    default T orElseThrow() {
+        if (this instanceof Found<T> found) {
+            return found.value();
+        }
+        throw new MovieErrorResponse(toString());
+    }
+
+    record Found<T>(T value) implements MovieResult<T> {
+    }
+
+    record NotFound<T>() implements MovieResult<T> {
+    }
+
+    record ClientError<T>(int status, String body) implements MovieResult<T> {
+    }
+
+    record ServerError<T>(int status, String body) implements MovieResult<T> {
+    }
+}
@@ -0,0 +1,422 @@
+package com.example.service;
+
+import com.example.cache.CachedMovie;
+import com.example.cache.MovieCache;
+import com.example.constants.MoviesAppConstants;
+import com.example.dto.MovieField;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.example.uri.MovieRequestUris;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.example.constants.MoviesAppConstants.OPERATION_ATTRIBUTE;
+
+@RequiredArgsConstructor
+@Slf4j
+public class MoviesReactiveClient {
+    private static final int DEFAULT_BATCH_CONCURRENCY = 8;
+    private static final int MULTI_GET_CHUNK_SIZE = 100;
+    private static final Set<Integer> MULTI_GET_UNSUPPORTED_STATUSES = Set.of(404, 405, 501);
+    private static final int DEFAULT_BULK_CONCURRENCY = 8;
+    private static final int BULK_CHUNK_SIZE = 100;
+    private static final Set<Integer> BULK_UNSUPPORTED_STATUSES = Set.of(404, 405, 501);
+
+    private final WebClient webClient;
+    private final MovieCache movieCache;
+    private final MovieRequestUris requestUris;
+    private final SingleFlight<Long, MovieInfo> movieByIdRequests = new SingleFlight<>();
+    private final SingleFlight<String, List<MovieInfo>> moviesByNameRequests = new SingleFlight<>();
+    private final SingleFlight<Integer, List<MovieInfo>> moviesByYearRequests = new SingleFlight<>();
+    private volatile Boolean multiGetSupported;
+    private volatile Boolean bulkAddSupported;
+
+    public MoviesReactiveClient(WebClient webClient) {
+        this(webClient, MovieCache.NONE);
+    }
+
+    // the base URL lives inside the WebClient here, so request URIs go through its template expansion;
+    // pass MoviesHttpClientConfig.requestUris() to use the precompiled absolute ones instead
+    public MoviesReactiveClient(WebClient webClient, MovieCache movieCache) {
+        this(webClient, movieCache, MovieRequestUris.relative());
+    }
+
+    public Flux<MovieInfo> retrieveAllMovies() {
+        return retrieveAllMovies(Set.of());
+    }
+
+    public Flux<MovieInfo> retrieveAllMovies(Set<MovieField> fields) {
+        return requestUris.allMovies(webClient.get(), MovieField.queryValue(fields).orElse(null))
+                .attribute(OPERATION_ATTRIBUTE, "retrieveAllMovies")
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .onErrorMap(e -> toMovieErrorResponse("retrieveAllMovies", e));
+    }
+
+    public Flux<MovieInfo> streamAllMovies() {
+        return requestUris.allMovies(webClient.get(), null)
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .attribute(OPERATION_ATTRIBUTE, "streamAllMovies")
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .onErrorMap(e -> toMovieErrorResponse("streamAllMovies", e));
+    }
+
+    public Mono<List<MovieInfo>> retrieveMoviesPage(Long afterMovieId, int limit) {
+        return retrieveMoviesPage(afterMovieId, limit, Set.of());
+    }
+
+    public Mono<List<MovieInfo>> retrieveMoviesPage(Long afterMovieId, int limit, Set<MovieField> fields) {
+        return requestUris.moviesPage(webClient.get(), afterMovieId, limit,
+                        MovieField.queryValue(withMovieId(fields)).orElse(null))
+                .attribute(OPERATION_ATTRIBUTE, "retrieveMoviesPage")
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .collectList()
+                .onErrorMap(e -> toMovieErrorResponse("retrieveMoviesPage", e));
+    }
+
+    public Flux<MovieInfo> retrieveAllMoviesPaged(int pageSize) {
+        return retrieveAllMoviesPaged(pageSize, Set.of());
+    }
+
+    public Flux<MovieInfo> retrieveAllMoviesPaged(int pageSize, Set<MovieField> fields) {
+        MoviePageIterator.checkPageSize(pageSize);
+        return retrieveMoviesPage(null, pageSize, fields)
+                .expand(page -> page.isEmpty()
+                        ? Mono.empty()
+                        : retrieveMoviesPage(MoviePageIterator.lastMovieId(page), pageSize, fields))
+                .concatMapIterable(page -> page);
+    }
+
+    // the page cursor is the last movie id, so a sparse page always carries it
+    private static Set<MovieField> withMovieId(Set<MovieField> fields) {
+        if (fields.isEmpty() || fields.contains(MovieField.MOVIE_INFO_ID)) {
+            return fields;
+        }
+        var withMovieId = EnumSet.copyOf(fields);
+        withMovieId.add(MovieField.MOVIE_INFO_ID);
+        return withMovieId;
+    }
+
+    public Mono<MovieInfo> retrieveMovieById(Integer movieId) {
+        return retrieveMovieById(movieId.longValue());
+    }
+
+    private Mono<MovieInfo> retrieveMovieById(Long movieId) {
+        return Mono.defer(() -> movieCache.get(movieId)
+                .map(cached -> cached.fresh() ? Mono.just(cached.movieInfo()) : fetchMovieById(movieId, cached))
+                .orElseGet(() -> fetchMovieById(movieId, null)));
+    }
+
+    private Mono<MovieInfo> fetchMovieById(Long movieId, CachedMovie cached) {
+        return movieByIdRequests.execute(movieId, () -> exchangeMovieById(movieId, cached));
+    }
+
+    private Mono<MovieInfo> exchangeMovieById(Long movieId, CachedMovie cached) {
+        return Mono.defer(() -> exchangeMovieById(movieId, cached, movieCache.generation(movieId)));
+    }
+
+    private Mono<MovieInfo> exchangeMovieById(Long movieId, CachedMovie cached, long generation) {
+        return webClient.get().uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                })
+                .attribute(OPERATION_ATTRIBUTE, "retrieveMovieById")
+                .retrieve()
+                .toEntity(MovieInfo.class)
+                .flatMap(entity -> {
+                    if (entity.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+                        movieCache.notModified(movieId);
+                        return Mono.just(cached.movieInfo());
+                    }
+                    var movieInfo = entity.getBody();
+                    if (movieInfo == null) {
+                        return Mono.empty();
+                    }
+                    movieCache.put(movieId, movieInfo, entity.getHeaders().getETag(), generation);
+                    return Mono.just(movieInfo);
+                })
+                .onErrorMap(e -> toMovieErrorResponse("retrieveMovieById", e));
+    }
+
+    public Mono<MovieResult<MovieInfo>> findMovieById(Integer movieId) {
+        var id = movieId.longValue();
+        return Mono.defer(() -> {
+            var cached = movieCache.get(id).orElse(null);
+            if (cached != null && cached.fresh()) {
+                return Mono.just(MovieResult.found(cached.movieInfo()));
+            }
+            var generation = movieCache.generation(id);
+            return webClient.get().uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, id)
+                    .headers(headers -> {
+                        if (cached != null && cached.etag() != null) {
+                            headers.setIfNoneMatch(cached.etag());
+                        }
+                    })
+                    .attribute(OPERATION_ATTRIBUTE, "findMovieById")
+                    .exchangeToMono(response -> {
+                        if (response.rawStatusCode() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+                            movieCache.notModified(id);
+                            return response.releaseBody().thenReturn(MovieResult.found(cached.movieInfo()));
+                        }
+                        return toMovieResult(response, () -> response.bodyToMono(MovieInfo.class)
+                                .doOnNext(movieInfo ->
+                                        movieCache.put(id, movieInfo, response.headers().asHttpHeaders().getETag(),
+                                                generation)));
+                    })
+                    .onErrorMap(e -> toMovieErrorResponse("findMovieById", e));
+        });
+    }
+
+    public Mono<MovieResult<List<MovieInfo>>> findMoviesByName(String name) {
+        return requestUris.moviesByName(webClient.get(), name)
+                .attribute(OPERATION_ATTRIBUTE, "findMoviesByName")
+                .exchangeToMono(response -> toMovieResult(response, () -> response.bodyToFlux(MovieInfo.class)
+                        .collectList()))
+                .onErrorMap(e -> toMovieErrorResponse("findMoviesByName", e));
+    }
+
+    public Mono<MovieResult<List<MovieInfo>>> findMoviesByYear(Integer year) {
+        return requestUris.moviesByYear(webClient.get(), year)
+                .attribute(OPERATION_ATTRIBUTE, "findMoviesByYear")
+                .exchangeToMono(response -> toMovieResult(response, () -> response.bodyToFlux(MovieInfo.class)
+                        .collectList()))
+                .onErrorMap(e -> toMovieErrorResponse("findMoviesByYear", e));
+    }
+
+    private <T> Mono<MovieResult<T>> toMovieResult(ClientResponse response, Supplier<Mono<T>> body) {
+        var status = response.rawStatusCode();
+        if (status >= 200 && status < 300) {
+            return body.get()
+                    .map(MovieResult::found)
+                    .defaultIfEmpty(MovieResult.notFound());
+        }
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return response.releaseBody().thenReturn(MovieResult.notFound());
+        }
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(errorBody -> {
+                    log.debug("Movies service responded with status {}: {}", status, errorBody);
+                    return MovieResult.error(status, errorBody);
+                });
+    }
+
+    public Flux<MovieLookup> retrieveMoviesByIds(Collection<Long> movieIds) {
+        return retrieveMoviesByIds(movieIds, DEFAULT_BATCH_CONCURRENCY);
+    }
+
+    public Flux<MovieLookup> retrieveMoviesByIds(Collection<Long> movieIds, int concurrency) {
+        var ids = List.copyOf(movieIds);
+        if (Boolean.FALSE.equals(multiGetSupported)) {
+            return retrieveEachMovieById(ids, concurrency);
+        }
+        return Flux.fromIterable(ids)
+                .buffer(MULTI_GET_CHUNK_SIZE)
+                .flatMapSequential(this::retrieveMovieChunk, concurrency);
+    }
+
+    private Flux<MovieLookup> retrieveMovieChunk(List<Long> movieIds) {
+        String retrieveByIdsUri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1)
+                .queryParam("ids", movieIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .buildAndExpand()
+                .toUriString();
+
+        return webClient.get()
+                .uri(retrieveByIdsUri)
+                .attribute(OPERATION_ATTRIBUTE, "retrieveMoviesByIds")
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .collectMap(MovieInfo::getMovieInfoId)
+                .doOnNext(movies -> multiGetSupported = true)
+                .flatMapIterable(movies -> movieIds.stream()
+                        .map(id -> movies.containsKey(id)
+                                ? MovieLookup.found(id, movies.get(id))
+                                : MovieLookup.failed(id, new MovieErrorResponse("Movie not found for id " + id)))
+                        .toList())
+                .onErrorResume(e -> {
+                    if (!Boolean.TRUE.equals(multiGetSupported)
+                            && e instanceof WebClientResponseException ex
+                            && MULTI_GET_UNSUPPORTED_STATUSES.contains(ex.getRawStatusCode())) {
+                        log.info("Multi-get endpoint is not available (status {}), retrieving movies one by one",
+                                ex.getRawStatusCode());
+                        multiGetSupported = false;
+                        // one request per chunk keeps the fallback within the chunk-level concurrency
+                        return Flux.fromIterable(movieIds).concatMap(this::lookupMovieById);
+                    }
+                    var error = toMovieErrorResponse("retrieveMoviesByIds", e);
+                    return error instanceof MovieErrorResponse movieErrorResponse
+                            ? Flux.fromIterable(movieIds).map(id -> MovieLookup.failed(id, movieErrorResponse))
+                            : Flux.error(error);
+                });
+    }
+
+    private Flux<MovieLookup> retrieveEachMovieById(List<Long> movieIds, int concurrency) {
+        return Flux.fromIterable(movieIds)
+                .flatMapSequential(this::lookupMovieById, concurrency);
+    }
+
+    private Mono<MovieLookup> lookupMovieById(Long id) {
+        return retrieveMovieById(id)
+                .map(movieInfo -> MovieLookup.found(id, movieInfo))
+                .switchIfEmpty(Mono.fromSupplier(() ->
+                        MovieLookup.failed(id, new MovieErrorResponse("Movie not found for id " + id))))
+                .onErrorResume(MovieErrorResponse.class, e -> Mono.just(MovieLookup.failed(id, e)));
+    }
+
+    public Flux<MovieInfo> retrieveMoviesByName(String name) {
+        return moviesByNameRequests.execute(name, () -> requestUris.moviesByName(webClient.get(), name)
+                        .attribute(OPERATION_ATTRIBUTE, "retrieveMoviesByName")
+                        .retrieve()
+                        .bodyToFlux(MovieInfo.class)
+                        .collectList()
+                        .onErrorMap(e -> toMovieErrorResponse("retrieveMovieByName", e)))
+                .flatMapIterable(movies -> movies);
+    }
+
+    public Flux<MovieInfo> retrieveMoviesByYear(Integer year) {
+        return moviesByYearRequests.execute(year, () -> requestUris.moviesByYear(webClient.get(), year)
+                        .attribute(OPERATION_ATTRIBUTE, "retrieveMoviesByYear")
+                        .retrieve()
+                        .bodyToFlux(MovieInfo.class)
+                        .collectList()
+                        .onErrorMap(e -> toMovieErrorResponse("retrieveMovieByYear", e)))
+                .flatMapIterable(movies -> movies);
+    }
+
+    public Mono<MovieInfo> addMovie(MovieInfo movieInfo) {
+        return webClient.post()
+                .uri(MoviesAppConstants.ADD_MOVIE_V1)
+                .bodyValue(movieInfo)
+                .attribute(OPERATION_ATTRIBUTE, "addMovie")
+                .retrieve()
+                .bodyToMono(MovieInfo.class)
+                .onErrorMap(e -> toMovieErrorResponse("addMovie", e));
+    }
+
+    public Mono<BulkAddSummary> addMovies(Flux<MovieInfo> movieInfos) {
+        return addMovies(movieInfos, DEFAULT_BULK_CONCURRENCY);
+    }
+
+    public Mono<BulkAddSummary> addMovies(Flux<MovieInfo> movieInfos, int concurrency) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return movieInfos.buffer(BULK_CHUNK_SIZE)
+                    .flatMap(this::addMovieChunk, concurrency)
+                    .collect(BulkAddSummary::builder, (summary, outcome) -> {
+                        if (outcome.error() == null) {
+                            summary.createdId(outcome.movieInfo().getMovieInfoId());
+                        } else {
+                            summary.failure(new MovieAddFailure(outcome.movieInfo(), outcome.error()));
+                        }
+                    })
+                    .map(summary -> summary.elapsed(Duration.ofNanos(System.nanoTime() - startNanos)).build());
+        });
+    }
+
+    private Flux<AddOutcome> addMovieChunk(List<MovieInfo> movieInfos) {
+        if (Boolean.FALSE.equals(bulkAddSupported)) {
+            return addEachMovie(movieInfos);
+        }
+        return webClient.post()
+                .uri(MoviesAppConstants.ADD_MOVIES_BULK_V1)
+                .bodyValue(movieInfos)
+                .attribute(OPERATION_ATTRIBUTE, "addMovies")
+                .retrieve()
+                .bodyToFlux(MovieInfo.class)
+                .map(movieInfo -> new AddOutcome(movieInfo, null))
+                .doOnComplete(() -> bulkAddSupported = true)
+                .onErrorResume(e -> {
+                    if (!Boolean.TRUE.equals(bulkAddSupported)
+                            && e instanceof WebClientResponseException ex
+                            && BULK_UNSUPPORTED_STATUSES.contains(ex.getRawStatusCode())) {
+                        log.info("Bulk endpoint is not available (status {}), adding movies one by one",
+                                ex.getRawStatusCode());
+                        bulkAddSupported = false;
+                        return addEachMovie(movieInfos);
+                    }
+                    var error = toMovieErrorResponse("addMovies", e);
+                    return error instanceof MovieErrorResponse movieErrorResponse
+                            ? Flux.fromIterable(movieInfos).map(movieInfo -> new AddOutcome(movieInfo, movieErrorResponse))
+                            : Flux.error(error);
+                });
+    }
+
+    private Flux<AddOutcome> addEachMovie(List<MovieInfo> movieInfos) {
+        return Flux.fromIterable(movieInfos)
+                .concatMap(movieInfo -> addMovie(movieInfo)
+                        .map(added -> new AddOutcome(added, null))
+                        .onErrorResume(MovieErrorResponse.class, e -> Mono.just(new AddOutcome(movieInfo, e))));
+    }
+
+    public Mono<MovieInfo> updateMovie(Integer movieId, MovieInfo movieInfo) {
+        return webClient.put()
+                .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+                .bodyValue(movieInfo)
+                .attribute(OPERATION_ATTRIBUTE, "updateMovie")
+                .retrieve()
+                .bodyToMono(MovieInfo.class)
+                .doOnTerminate(() -> movieCache.invalidate(movieId.longValue()))
+                .onErrorMap(e -> toMovieErrorResponse("updateMovie", e));
+    }
+
+    public Mono<String> deleteMovie(Long movieId) {
+        return webClient.delete()
+                .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+                .attribute(OPERATION_ATTRIBUTE, "deleteMovie")
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnTerminate(() -> movieCache.invalidate(movieId))
+                .onErrorMap(e -> toMovieErrorResponse("deleteMovie", e));
+    }
+
+    public Mono<String> deleteMovieByName(String movieName) {
+        return requestUris.moviesByName(webClient.delete(), movieName)
+                .attribute(OPERATION_ATTRIBUTE, "deleteMovieByName")
+                .retrieve()
+                .bodyToMono(Void.class)
+                .thenReturn("Movie Deleted Successfully")
+                .doOnTerminate(() -> movieCache.invalidateByName(movieName))
+                .onErrorMap(e -> toMovieErrorResponse("deleteMovie", e));
+    }
+
+    private Throwable toMovieErrorResponse(String operation, Throwable e) {
+        if (e instanceof MovieErrorResponse) {
+            return e;
+        }
+        if (e instanceof WebClientResponseException ex) {
+            log.error("WebClientResponseException in {}. Status code is {} and the message is {} ",
+                    operation,
+                    ex.getRawStatusCode(),
+                    ex.getResponseBodyAsString());
+            return new MovieErrorResponse(ex.getStatusText(), ex);
+        }
+        if (e instanceof Exception ex) {
+            log.error("Exception in {} and the message is {} ", operation, ex.getMessage());
+            return new MovieErrorResponse(ex);
+        }
+        return e;
+    }
+
+    private record AddOutcome(MovieInfo movieInfo, MovieErrorResponse error) {
+    }
+}
@@ -1,184 +1,130 @@
 package com.example.service;
 
-import com.example.constants.MoviesAppConstants;
+import com.example.dto.MovieField;
 import com.example.dto.MovieInfo;
-import com.example.exception.MovieErrorResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
-@Slf4j
 public class MoviesRestClient {
-    private final WebClient webClient;
+    private static final int DEFAULT_STREAM_PREFETCH = 256;
+    private static final Executor CALLER_THREAD = Runnable::run;
+
+    private final MoviesReactiveClient moviesReactiveClient;
+    private final Executor blockingExecutor;
+
+    public MoviesRestClient(WebClient webClient) {
+        this(new MoviesReactiveClient(webClient));
+    }
+
+    public MoviesRestClient(MoviesReactiveClient moviesReactiveClient) {
+        this(moviesReactiveClient, CALLER_THREAD);
+    }
+
+    // blocking methods park the calling thread; to scale, run callers on the blocking executor through submit
+    public <T> CompletableFuture<T> submit(Function<MoviesRestClient, T> call) {
+        return CompletableFuture.supplyAsync(() -> call.apply(this), blockingExecutor);
+    }
 
     public List<MovieInfo> retrieveAllMovies() {
+        return moviesReactiveClient.retrieveAllMovies().collectList().block();
+    }
+
+    public List<MovieInfo> retrieveAllMovies(Set<MovieField> fields) {
+        return moviesReactiveClient.retrieveAllMovies(fields).collectList().block();
+    }
+
+    public Stream<MovieInfo> streamAllMovies() {
+        return streamAllMovies(DEFAULT_STREAM_PREFETCH);
+    }
+
+    public Stream<MovieInfo> streamAllMovies(int prefetch) {
+        return moviesReactiveClient.streamAllMovies()
+                .toStream(prefetch);
+    }
+
+    public List<MovieInfo> retrieveMoviesPage(Long afterMovieId, int limit) {
+        return moviesReactiveClient.retrieveMoviesPage(afterMovieId, limit).block();
+    }
+
+    public List<MovieInfo> retrieveMoviesPage(Long afterMovieId, int limit, Set<MovieField> fields) {
+        return moviesReactiveClient.retrieveMoviesPage(afterMovieId, limit, fields).block();
+    }
 
-        try {
-            return webClient.get().uri(MoviesAppConstants.GET_ALL_MOVIES_V1)
-                    .retrieve()
-                    .bodyToFlux(MovieInfo.class)
-                    .collectList()
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in retrieveAllMovies. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in retrieveAllMovies and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+    public MoviePageIterator iterateAllMovies(int pageSize) {
+        return iterateAllMovies(pageSize, false);
+    }
+
+    public MoviePageIterator iterateAllMovies(int pageSize, boolean prefetch) {
+        return iterateAllMovies(pageSize, prefetch, Set.of());
+    }
+
+    public MoviePageIterator iterateAllMovies(int pageSize, boolean prefetch, Set<MovieField> fields) {
+        return new MoviePageIterator(moviesReactiveClient, pageSize, prefetch, fields);
     }
 
     public MovieInfo retrieveMovieById(Integer movieId) {
-        try {
-            return webClient.get().uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
-                    .retrieve()
-                    .bodyToMono(MovieInfo.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in retrieveMovieById. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in retrieveMovieById and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.retrieveMovieById(movieId).block();
+    }
+
+    public MovieResult<MovieInfo> findMovieById(Integer movieId) {
+        return moviesReactiveClient.findMovieById(movieId).block();
+    }
+
+    public List<MovieLookup> retrieveMoviesByIds(Collection<Long> movieIds) {
+        return moviesReactiveClient.retrieveMoviesByIds(movieIds).collectList().block();
+    }
+
+    public List<MovieLookup> retrieveMoviesByIds(Collection<Long> movieIds, int concurrency) {
+        return moviesReactiveClient.retrieveMoviesByIds(movieIds, concurrency).collectList().block();
     }
 
     public List<MovieInfo> retrieveMoviesByName(String name) {
-        String retrieveByNameUri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)
-                .queryParam("movie_name", name)
-                .buildAndExpand()
-                .toUriString();
-
-        try {
-            return webClient.get()
-                    .uri(retrieveByNameUri)
-                    .retrieve()
-                    .bodyToFlux(MovieInfo.class)
-                    .collectList()
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in retrieveMovieByName. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in retrieveMovieByName and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.retrieveMoviesByName(name).collectList().block();
     }
 
     public List<MovieInfo> retrieveMoviesByYear(Integer year) {
-        String retrieveByYearUri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1)
-                .queryParam("year", year)
-                .buildAndExpand()
-                .toUriString();
-
-        try {
-            return webClient.get()
-                    .uri(retrieveByYearUri)
-                    .retrieve()
-                    .bodyToFlux(MovieInfo.class)
-                    .collectList()
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in retrieveMovieByYear. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in retrieveMovieByYear and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.retrieveMoviesByYear(year).collectList().block();
+    }
+
+    public MovieResult<List<MovieInfo>> findMoviesByName(String name) {
+        return moviesReactiveClient.findMoviesByName(name).block();
+    }
+
+    public MovieResult<List<MovieInfo>> findMoviesByYear(Integer year) {
+        return moviesReactiveClient.findMoviesByYear(year).block();
     }
 
     public MovieInfo addMovie(MovieInfo movieInfo) {
-        try {
-            return webClient.post()
-                    .uri(MoviesAppConstants.ADD_MOVIE_V1)
-                    .bodyValue(movieInfo)
-                    .retrieve()
-                    .bodyToMono(MovieInfo.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in addMovie. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in addMovie and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.addMovie(movieInfo).block();
+    }
+
+    public BulkAddSummary addMovies(Stream<MovieInfo> movieInfos) {
+        return moviesReactiveClient.addMovies(Flux.fromStream(movieInfos)).block();
+    }
+
+    public BulkAddSummary addMovies(Stream<MovieInfo> movieInfos, int concurrency) {
+        return moviesReactiveClient.addMovies(Flux.fromStream(movieInfos), concurrency).block();
     }
 
     public MovieInfo updateMovie(Integer movieId, MovieInfo movieInfo) {
-        try {
-            return webClient.put()
-                    .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
-                    .bodyValue(movieInfo)
-                    .retrieve()
-                    .bodyToMono(MovieInfo.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in updateMovie. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in updateMovie and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.updateMovie(movieId, movieInfo).block();
     }
 
     public String deleteMovie(Long movieId) {
-        try {
-            return webClient.delete()
-                    .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in deleteMovie. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in deleteMovie and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
+        return moviesReactiveClient.deleteMovie(movieId).block();
     }
 
     public String deleteMovieByName(String movieName) {
-        try {
-
-            String deleteMovieByNameURI =
-                    UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)
-                    .queryParam("movie_name", movieName)
-                    .buildAndExpand()
-                    .toUriString();
-
-            webClient.delete()
-                    .uri(deleteMovieByNameURI)
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("WebClientResponseException in deleteMovie. Status code is {} and the message is {} ",
-                    e.getRawStatusCode(),
-                    e.getResponseBodyAsString());
-            throw new MovieErrorResponse(e.getStatusText(), e);
-        } catch (Exception e) {
-            log.error("Exception in deleteMovie and the message is {} ", e.getMessage());
-            throw new MovieErrorResponse(e);
-        }
-        return "Movie Deleted Successfully";
+        return moviesReactiveClient.deleteMovieByName(movieName).block();
     }
 }
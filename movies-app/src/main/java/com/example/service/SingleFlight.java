@@ -0,0 +1,33 @@
+package com.example.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> request) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, request.get())));
+    }
+
+    private Mono<V> share(K key, Mono<V> request) {
+        var shared = new AtomicReference<Mono<V>>();
+        // remove only this request's entry, so a late signal cannot evict a newer request for the same key
+        Runnable release = () -> inFlight.remove(key, shared.get());
+        // share() cancels the request once every waiter has cancelled; cache() would keep it running and
+        // hand a request nobody is waiting for to every later caller
+        shared.set(request
+                .doOnTerminate(release)
+                .doFinally(signal -> release.run())
+                .share());
+        return shared.get();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.uri;
+
+import com.example.constants.MoviesAppConstants;
+import com.example.dto.MovieField;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+
+public class MovieRequestUris {
+    private static final String MOVIE_NAME_PARAM = "movie_name";
+    private static final String YEAR_PARAM = "year";
+    private static final String AFTER_PARAM = "after";
+    private static final String LIMIT_PARAM = "limit";
+    private static final String MOVIE_BY_NAME_TEMPLATE =
+            MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1 + "?" + MOVIE_NAME_PARAM + "={movieName}";
+    private static final String MOVIE_BY_YEAR_TEMPLATE =
+            MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1 + "?" + YEAR_PARAM + "={year}";
+    private static final MovieRequestUris RELATIVE = new MovieRequestUris(null, null, null);
+
+    private final QueryUriTemplate moviesByName;
+    private final QueryUriTemplate moviesByYear;
+    private final String allMovies;
+
+    private MovieRequestUris(QueryUriTemplate moviesByName, QueryUriTemplate moviesByYear, String allMovies) {
+        this.moviesByName = moviesByName;
+        this.moviesByYear = moviesByYear;
+        this.allMovies = allMovies;
+    }
+
+    public static MovieRequestUris absolute(String baseUrl) {
+        var base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        return new MovieRequestUris(
+                new QueryUriTemplate(baseUrl, MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1, MOVIE_NAME_PARAM),
+                new QueryUriTemplate(baseUrl, MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1, YEAR_PARAM),
+                base + MoviesAppConstants.GET_ALL_MOVIES_V1);
+    }
+
+    public static MovieRequestUris relative() {
+        return RELATIVE;
+    }
+
+    public <S extends WebClient.RequestHeadersSpec<?>> S moviesByName(WebClient.UriSpec<S> spec, String movieName) {
+        return moviesByName == null
+                ? spec.uri(MOVIE_BY_NAME_TEMPLATE, movieName)
+                : spec.uri(moviesByName.expand(movieName));
+    }
+
+    public <S extends WebClient.RequestHeadersSpec<?>> S moviesByYear(WebClient.UriSpec<S> spec, Integer year) {
+        return moviesByYear == null || year == null
+                ? spec.uri(MOVIE_BY_YEAR_TEMPLATE, year)
+                : spec.uri(moviesByYear.expand(year));
+    }
+
+    // fields is the comma-joined wire names from MovieField.queryValue, or null for every field
+    public <S extends WebClient.RequestHeadersSpec<?>> S allMovies(WebClient.UriSpec<S> spec, String fields) {
+        if (fields == null) {
+            return allMovies == null ? spec.uri(MoviesAppConstants.GET_ALL_MOVIES_V1) : spec.uri(URI.create(allMovies));
+        }
+        return uri(spec, allMoviesQuery().append(MovieField.QUERY_PARAM).append('=').append(fields));
+    }
+
+    public <S extends WebClient.RequestHeadersSpec<?>> S moviesPage(WebClient.UriSpec<S> spec, Long afterMovieId,
+                                                                    int limit, String fields) {
+        var uri = allMoviesQuery();
+        if (afterMovieId != null) {
+            uri.append(AFTER_PARAM).append('=').append(afterMovieId).append('&');
+        }
+        uri.append(LIMIT_PARAM).append('=').append(limit);
+        if (fields != null) {
+            uri.append('&').append(MovieField.QUERY_PARAM).append('=').append(fields);
+        }
+        return uri(spec, uri);
+    }
+
+    private StringBuilder allMoviesQuery() {
+        var path = allMovies == null ? MoviesAppConstants.GET_ALL_MOVIES_V1 : allMovies;
+        return new StringBuilder(path.length() + 64).append(path).append('?');
+    }
+
+    // every value here is a number or a MovieField wire name, so nothing needs encoding
+    private <S extends WebClient.RequestHeadersSpec<?>> S uri(WebClient.UriSpec<S> spec, CharSequence uri) {
+        return allMovies == null ? spec.uri(uri.toString()) : spec.uri(URI.create(uri.toString()));
+    }
+}
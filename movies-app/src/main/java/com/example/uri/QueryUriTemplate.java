@@ -0,0 +1,68 @@
+package com.example.uri;
+
+import java.net.URI;
+
+public class QueryUriTemplate {
+    private static final int MAX_RETAINED_BUFFER = 4096;
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String prefix;
+
+    public QueryUriTemplate(String baseUrl, String path, String queryParam) {
+        var base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.prefix = base + path + "?" + queryParam + "=";
+    }
+
+    public URI expand(String value) {
+        var buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.append(prefix);
+        encodeQueryValue(value, buffer);
+        var uri = URI.create(buffer.toString());
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return uri;
+    }
+
+    public URI expand(int value) {
+        return URI.create(prefix + value);
+    }
+
+    static void encodeQueryValue(CharSequence value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                out.append(c);
+            } else if (c < 0x80) {
+                appendEscaped(c, out);
+            } else if (c < 0x800) {
+                appendEscaped(0xC0 | (c >> 6), out);
+                appendEscaped(0x80 | (c & 0x3F), out);
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendEscaped(0xF0 | (codePoint >> 18), out);
+                appendEscaped(0x80 | ((codePoint >> 12) & 0x3F), out);
+                appendEscaped(0x80 | ((codePoint >> 6) & 0x3F), out);
+                appendEscaped(0x80 | (codePoint & 0x3F), out);
+            } else if (Character.isSurrogate(c)) {
+                appendEscaped('?', out);
+            } else {
+                appendEscaped(0xE0 | (c >> 12), out);
+                appendEscaped(0x80 | ((c >> 6) & 0x3F), out);
+                appendEscaped(0x80 | (c & 0x3F), out);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void appendEscaped(int b, StringBuilder out) {
+        out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+}
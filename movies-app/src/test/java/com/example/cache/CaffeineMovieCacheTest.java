@@ -0,0 +1,96 @@
+package com.example.cache;
+
+import com.example.dto.MovieInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineMovieCacheTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private final CaffeineMovieCache movieCache = new CaffeineMovieCache(2, Duration.ofMinutes(5), nanos::get);
+
+    private static MovieInfo movie(long movieInfoId, String name) {
+        return new MovieInfo(movieInfoId, name, "Christian Bale", LocalDate.of(2005, 6, 15), 2005);
+    }
+
+    @Test
+    void missThenHit() {
+        assertTrue(movieCache.get(1L).isEmpty());
+
+        movieCache.put(1L, movie(1L, "Batman Begins"), "\"v1\"");
+        var cached = movieCache.get(1L).orElseThrow();
+
+        assertTrue(cached.fresh());
+        assertEquals("\"v1\"", cached.etag());
+        assertEquals("Batman Begins", cached.movieInfo().getName());
+        assertEquals(new MovieCacheStats(1, 1, 0, 0, 0), movieCache.stats());
+    }
+
+    @Test
+    void entryBecomesStaleAfterTimeToLive() {
+        movieCache.put(1L, movie(1L, "Batman Begins"), "\"v1\"");
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        assertFalse(movieCache.get(1L).orElseThrow().fresh());
+
+        movieCache.notModified(1L);
+
+        assertTrue(movieCache.get(1L).orElseThrow().fresh());
+        assertEquals(1, movieCache.stats().staleCount());
+        assertEquals(1, movieCache.stats().notModifiedCount());
+    }
+
+    @Test
+    void cachedValuesAreDefensiveCopies() {
+        var movieInfo = movie(1L, "Batman Begins");
+        movieCache.put(1L, movieInfo, null);
+        movieInfo.setName("Changed");
+        movieCache.get(1L).orElseThrow().movieInfo().setName("Changed again");
+
+        assertEquals("Batman Begins", movieCache.get(1L).orElseThrow().movieInfo().getName());
+    }
+
+    @Test
+    void invalidate() {
+        movieCache.put(1L, movie(1L, "Batman Begins"), null);
+        movieCache.put(2L, movie(2L, "Dark Knight"), null);
+
+        movieCache.invalidate(1L);
+        movieCache.invalidateByName("Dark Knight");
+
+        assertTrue(movieCache.get(1L).isEmpty());
+        assertTrue(movieCache.get(2L).isEmpty());
+    }
+
+    @Test
+    void putFromBeforeInvalidationIsDropped() {
+        var byId = movieCache.generation(1L);
+        var byName = movieCache.generation(2L);
+
+        movieCache.invalidate(1L);
+        movieCache.invalidateByName("Dark Knight");
+        movieCache.put(1L, movie(1L, "Batman Begins"), null, byId);
+        movieCache.put(2L, movie(2L, "Dark Knight"), null, byName);
+
+        assertTrue(movieCache.get(1L).isEmpty());
+        assertTrue(movieCache.get(2L).isEmpty());
+
+        movieCache.put(1L, movie(1L, "Batman Begins"), null, movieCache.generation(1L));
+
+        assertTrue(movieCache.get(1L).isPresent());
+    }
+
+    @Test
+    void sizeBoundEvicts() {
+        for (long id = 1; id <= 10; id++) {
+            movieCache.put(id, movie(id, "Movie " + id), null);
+        }
+        movieCache.cleanUp();
+
+        assertEquals(8, movieCache.stats().evictionCount());
+    }
+}
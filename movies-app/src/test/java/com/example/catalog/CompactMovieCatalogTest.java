@@ -0,0 +1,93 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactMovieCatalogTest {
+    private static final List<MovieInfo> MOVIES = List.of(
+            new MovieInfo(3L, "Batman Begins", "Christian Bale, Katie Holmes , Liam Neeson",
+                    LocalDate.of(2005, 6, 15), 2005),
+            new MovieInfo(1L, "Dark Knight", "Christian Bale, Heath Ledger , Michael Caine",
+                    LocalDate.of(2008, 7, 18), 2008),
+            new MovieInfo(2L, "Untitled", "", null, null),
+            new MovieInfo(null, null, null, LocalDate.of(1900, 1, 1), -1));
+
+    @Test
+    void moviesEqualTheOriginals() {
+        var catalog = CompactMovieCatalog.of(MOVIES);
+
+        assertEquals(MOVIES.size(), catalog.size());
+        for (int i = 0; i < MOVIES.size(); i++) {
+            var movie = catalog.get(i);
+            assertEquals(MOVIES.get(i), movie);
+            assertEquals(MOVIES.get(i).hashCode(), movie.hashCode());
+        }
+        assertEquals(MOVIES, catalog.movies().toList());
+    }
+
+    @Test
+    void deduplicatesNamesAndCastMembers() {
+        var catalog = CompactMovieCatalog.of(MOVIES);
+
+        assertEquals(9, catalog.distinctStrings());
+        assertSame(catalog.get(0).getName(), catalog.get(0).getName());
+    }
+
+    @Test
+    void findsMoviesById() {
+        var catalog = CompactMovieCatalog.of(MOVIES);
+
+        assertEquals("Dark Knight", catalog.findById(1).orElseThrow().getName());
+        assertEquals("Batman Begins", catalog.findById(3).orElseThrow().getName());
+        assertTrue(catalog.findById(4).isEmpty());
+    }
+
+    @Test
+    void findsMoviesByIdWhateverTheInsertionOrder() {
+        var movies = IntStream.range(0, 1000)
+                .mapToObj(i -> new MovieInfo((long) (i * 7919 % 1000), "Movie " + i, null, null, null))
+                .collect(Collectors.toList());
+
+        var catalog = CompactMovieCatalog.of(movies);
+
+        for (var movie : movies) {
+            assertEquals(movie, catalog.findById(movie.getMovieInfoId()).orElseThrow());
+        }
+        assertTrue(catalog.findById(1000).isEmpty());
+    }
+
+    @Test
+    void returnedMoviesDoNotAliasTheCatalog() {
+        var catalog = CompactMovieCatalog.of(MOVIES);
+
+        catalog.get(0).setName("Changed");
+
+        assertEquals("Batman Begins", catalog.get(0).getName());
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.get(MOVIES.size()));
+    }
+
+    @Test
+    void collectsDecodedStreamBeyondInitialCapacity() {
+        var movies = IntStream.range(0, 5000)
+                .mapToObj(i -> new MovieInfo((long) i, "Movie " + i, "Actor " + i % 7 + ",Actor " + i % 11,
+                        LocalDate.of(2000, 1, 1).plusDays(i), 2000 + i % 20))
+                .collect(Collectors.toList());
+
+        var catalog = CompactMovieCatalog.collect(Flux.fromIterable(movies)).block();
+
+        assertEquals(movies, catalog.movies().toList());
+        assertEquals(5000 + 11, catalog.distinctStrings());
+        assertEquals(movies.get(4321), catalog.findById(4321).orElseThrow());
+    }
+}
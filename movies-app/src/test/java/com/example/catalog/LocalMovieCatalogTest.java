@@ -0,0 +1,222 @@
+package com.example.catalog;
+
+import com.example.constants.MoviesAppConstants;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MovieResult;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class LocalMovieCatalogTest {
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2022-06-01T00:00:00Z"));
+    private MoviesRestClient moviesRestClient;
+    private LocalMovieCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        moviesRestClient = new MoviesRestClient(WebClient.create(baseUrl));
+        catalog = new LocalMovieCatalog(moviesRestClient, Duration.ofMinutes(1), Duration.ofMinutes(5), clock);
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+    }
+
+    @Test
+    void fallsBackToRemoteUntilLoaded() {
+        assertFalse(catalog.isLoaded());
+        assertTrue(catalog.staleness().isEmpty());
+
+        var result = catalog.findMoviesByName("Avengers");
+
+        assertEquals(4, result.orElseThrow().size());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void answersFromIndexesWithoutCallingServer() {
+        catalog.refresh();
+        wm.resetRequests();
+
+        assertEquals("Batman Begins", catalog.findMovieById(1).orElseThrow().getName());
+        assertEquals(List.of(3L, 4L), catalog.findMoviesByYear(2012).orElseThrow().stream()
+                .map(MovieInfo::getMovieInfoId).toList());
+        assertEquals(3L, catalog.findMoviesByName("  the DARK   knight rises ").orElseThrow()
+                .get(0).getMovieInfoId());
+        assertEquals(List.of(4L), catalog.findMoviesByName("The Avengers").orElseThrow().stream()
+                .map(MovieInfo::getMovieInfoId).toList());
+        assertInstanceOf(MovieResult.NotFound.class, catalog.findMovieById(42));
+        assertInstanceOf(MovieResult.NotFound.class, catalog.findMoviesByName("Unknown"));
+        assertInstanceOf(MovieResult.NotFound.class, catalog.findMoviesByYear(1900));
+        assertEquals(10, catalog.size());
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void matchesWholeNormalizedNamesLocally() {
+        catalog.refresh();
+        wm.resetRequests();
+
+        assertEquals(List.of(2L), catalog.findMoviesByName("dark  KNIGHT").orElseThrow().stream()
+                .map(MovieInfo::getMovieInfoId).toList());
+        assertEquals(List.of(7L), catalog.findMoviesByName("Avengers: End Game").orElseThrow().stream()
+                .map(MovieInfo::getMovieInfoId).toList());
+        assertInstanceOf(MovieResult.NotFound.class, catalog.findMoviesByName("GAME"));
+        assertInstanceOf(MovieResult.NotFound.class, catalog.findMoviesByName("Dark Knights"));
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void leavesNullKeysToTheService() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        catalog.refresh();
+        wm.resetRequests();
+
+        assertTrue(catalog.findMoviesByYear(null).isFound());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void returnedMoviesDoNotAliasTheReplica() {
+        catalog.refresh();
+
+        catalog.findMovieById(1).orElseThrow().setName("Changed");
+
+        assertEquals("Batman Begins", catalog.findMovieById(1).orElseThrow().getName());
+    }
+
+    @Test
+    void reportsStalenessAndFallsBackWhenTooStale() {
+        catalog.refresh();
+        clock.advance(Duration.ofMinutes(2));
+        assertEquals(Duration.ofMinutes(2), catalog.staleness().orElseThrow());
+        assertTrue(catalog.isFresh());
+
+        clock.advance(Duration.ofMinutes(4));
+        catalog.findMoviesByName("Avengers");
+
+        assertFalse(catalog.isFresh());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousReplica() {
+        catalog.refresh();
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1)).willReturn(serverError()));
+        clock.advance(Duration.ofMinutes(1));
+
+        assertThrows(MovieErrorResponse.class, () -> catalog.refresh());
+
+        assertEquals(10, catalog.size());
+        assertEquals(Duration.ofMinutes(1), catalog.staleness().orElseThrow());
+    }
+
+    @Test
+    void startRefreshesInBackground() throws InterruptedException {
+        try (var started = catalog.start()) {
+            for (int i = 0; i < 100 && !started.isLoaded(); i++) {
+                Thread.sleep(20);
+            }
+            assertEquals(10, started.size());
+        }
+    }
+
+    @Test
+    void loadsFromSnapshot(@TempDir Path tempDir) throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(
+                new MovieInfo(1L, "Batman Begins", "Christian Bale", LocalDate.of(2005, 6, 15), 2005)));
+
+        catalog.load(MovieCatalogSnapshot.open(path));
+
+        assertEquals(1, catalog.size());
+        assertTrue(catalog.findMovieById(1).isFound());
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void fallsBackToRemoteYearLookupWhenYearsSpanTooWide(@TempDir Path tempDir) throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(
+                new MovieInfo(1L, "Batman Begins", "Christian Bale", LocalDate.of(2005, 6, 15), 2005),
+                new MovieInfo(2L, "Far Future", null, null, 20005)));
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        catalog.load(MovieCatalogSnapshot.open(path));
+
+        assertTrue(catalog.findMoviesByYear(2005).isFound());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1)));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
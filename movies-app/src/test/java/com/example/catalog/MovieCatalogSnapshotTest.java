@@ -0,0 +1,161 @@
+package com.example.catalog;
+
+import com.example.dto.MovieInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MovieCatalogSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    private static MovieInfo movie(long id) {
+        return new MovieInfo(id, "Movie " + id, "Cast " + id, LocalDate.of(2000, 1, 1).plusDays(id), 2000);
+    }
+
+    @Test
+    void roundTripsMoviesSortedById() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        var batman = new MovieInfo(3L, "Batman Begins", "Christian Bale", LocalDate.of(2005, 6, 15), 2005);
+        var amelie = new MovieInfo(1L, "Am\u00e9lie", null, null, null);
+        var matrix = new MovieInfo(2L, "The Matrix", "Keanu Reeves", LocalDate.of(1999, 3, 24), 1999);
+
+        MovieCatalogSnapshot.write(path, List.of(batman, amelie, matrix));
+        var snapshot = MovieCatalogSnapshot.open(path);
+
+        assertEquals(3, snapshot.size());
+        assertEquals(List.of(amelie, matrix, batman), snapshot.movies().toList());
+        assertEquals(batman, snapshot.findById(3).orElseThrow());
+        assertTrue(snapshot.findById(4).isEmpty());
+    }
+
+    @Test
+    void findsEveryMovieByBinarySearch() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        var movies = LongStream.rangeClosed(1, 1000).map(id -> id * 2).mapToObj(MovieCatalogSnapshotTest::movie)
+                .collect(Collectors.toList());
+
+        MovieCatalogSnapshot.write(path, movies);
+        var snapshot = MovieCatalogSnapshot.open(path);
+
+        for (var movie : movies) {
+            assertEquals(movie, snapshot.findById(movie.getMovieInfoId()).orElseThrow());
+        }
+        assertTrue(snapshot.findById(3).isEmpty());
+    }
+
+    @Test
+    void skipsMoviesWithoutId() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+
+        MovieCatalogSnapshot.write(path, List.of(movie(1), new MovieInfo(null, "Draft", null, null, null)));
+
+        assertEquals(1, MovieCatalogSnapshot.open(path).size());
+    }
+
+    @Test
+    void replacingSnapshotKeepsExistingMappingReadable() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(movie(1)));
+        var previous = MovieCatalogSnapshot.open(path);
+
+        MovieCatalogSnapshot.write(path, List.of(movie(1), movie(2)));
+
+        assertEquals(movie(1), previous.findById(1).orElseThrow());
+        assertEquals(2, MovieCatalogSnapshot.open(path).size());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        Files.writeString(path, "[{\"movieInfoId\": 1}]");
+
+        assertThrows(IOException.class, () -> MovieCatalogSnapshot.open(path));
+    }
+
+    @Test
+    void rejectsTruncatedSnapshots() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(movie(1), movie(2), movie(3)));
+        var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, 30));
+
+        assertThrows(IOException.class, () -> MovieCatalogSnapshot.open(path));
+    }
+
+    @Test
+    void rejectsRecordsWithOffsetsOutsideTheData() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(movie(1), movie(2), movie(3)));
+        var bytes = Files.readAllBytes(path);
+        var buffer = ByteBuffer.wrap(bytes);
+        var offsetsStart = 27 + buffer.getLong(19) + 3 * Long.BYTES;
+        buffer.putLong((int) offsetsStart, 1_000_000);
+        Files.write(path, bytes);
+
+        var snapshot = MovieCatalogSnapshot.open(path);
+
+        assertThrows(IllegalStateException.class, () -> snapshot.findById(1));
+        assertEquals(movie(2), snapshot.findById(2).orElseThrow());
+    }
+
+    @Test
+    void keepsRecordsWithinSegments() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        var movies = LongStream.rangeClosed(1, 200).map(id -> 201 - id).mapToObj(MovieCatalogSnapshotTest::movie)
+                .collect(Collectors.toList());
+        try (var writer = MovieCatalogSnapshot.writer(path, 6)) {
+            for (var movie : movies) {
+                writer.add(movie);
+            }
+            writer.commit();
+        }
+
+        var snapshot = MovieCatalogSnapshot.open(path);
+
+        assertEquals(200, snapshot.size());
+        for (var movie : movies) {
+            assertEquals(movie, snapshot.findById(movie.getMovieInfoId()).orElseThrow());
+        }
+        assertEquals(LongStream.rangeClosed(1, 200).boxed().toList(),
+                snapshot.movies().map(MovieInfo::getMovieInfoId).toList());
+    }
+
+    @Test
+    void discardsUncommittedWrites() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        try (var writer = MovieCatalogSnapshot.writer(path)) {
+            writer.add(movie(1));
+        }
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void rejectsSnapshotsWithTruncatedMovieData() throws IOException {
+        var path = tempDir.resolve("catalog.bin");
+        MovieCatalogSnapshot.write(path, List.of(movie(1), movie(2), movie(3)));
+        var bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(IOException.class, () -> MovieCatalogSnapshot.open(path));
+    }
+}
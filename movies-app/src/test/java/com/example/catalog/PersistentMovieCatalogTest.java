@@ -0,0 +1,109 @@
+package com.example.catalog;
+
+import com.example.constants.MoviesAppConstants;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesReactiveClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class PersistentMovieCatalogTest {
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    @TempDir
+    Path tempDir;
+
+    private Path path;
+    private MoviesReactiveClient moviesReactiveClient;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("catalog.bin");
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        moviesReactiveClient = new MoviesReactiveClient(WebClient.create(baseUrl));
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+    }
+
+    @Test
+    void startsEmptyWithoutSnapshotAndPersistsOnReconcile() {
+        var catalog = new PersistentMovieCatalog(path, moviesReactiveClient);
+        assertTrue(catalog.snapshot().isEmpty());
+
+        var snapshot = catalog.reconcile().block();
+
+        assertEquals(10, snapshot.size());
+        assertEquals(snapshot, catalog.snapshot().orElseThrow());
+        assertTrue(Files.exists(path));
+    }
+
+    @Test
+    void warmStartServesSnapshotWithoutCallingServer() {
+        new PersistentMovieCatalog(path, moviesReactiveClient).reconcile().block();
+        wm.resetRequests();
+
+        var catalog = new PersistentMovieCatalog(path, moviesReactiveClient);
+
+        assertEquals(10, catalog.snapshot().orElseThrow().size());
+        assertEquals("Batman Begins", catalog.snapshot().orElseThrow().findById(1).orElseThrow().getName());
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+    }
+
+    @Test
+    void ignoresUnreadableSnapshot() throws IOException {
+        Files.writeString(path, "not a snapshot");
+
+        var catalog = new PersistentMovieCatalog(path, moviesReactiveClient);
+
+        assertTrue(catalog.snapshot().isEmpty());
+        assertEquals(10, catalog.reconcile().block().size());
+    }
+
+    @Test
+    void reconcilesInBackground() throws InterruptedException {
+        var catalog = new PersistentMovieCatalog(path, moviesReactiveClient);
+
+        var reconciliation = catalog.reconcileInBackground(Duration.ofMinutes(5));
+        try {
+            for (int i = 0; i < 100 && catalog.snapshot().isEmpty(); i++) {
+                Thread.sleep(20);
+            }
+        } finally {
+            reconciliation.dispose();
+        }
+
+        assertEquals(10, catalog.snapshot().orElseThrow().size());
+    }
+
+    @Test
+    void keepsServingSnapshotWhenReconciliationFails() {
+        new PersistentMovieCatalog(path, moviesReactiveClient).reconcile().block();
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1)).willReturn(serverError()));
+        var catalog = new PersistentMovieCatalog(path, moviesReactiveClient);
+
+        assertThrows(MovieErrorResponse.class, () -> catalog.reconcile().block());
+
+        assertEquals(10, catalog.snapshot().orElseThrow().size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.codec;
+
+import com.example.dto.MovieInfo;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MovieJsonTest {
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper movieMapper = MovieJson.objectMapper();
+
+    @Test
+    void decodesLikeTheDefaultMapper() throws Exception {
+        var json = Files.readString(Path.of("src/test/resources/__files/all-movies.json"));
+
+        var expected = defaultMapper.readValue(json, MovieInfo[].class);
+        var actual = movieMapper.readValue(json, MovieInfo[].class);
+
+        assertEquals(10, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i]);
+        }
+    }
+
+    @Test
+    void ignoresUnknownFieldsAndHandlesNulls() throws Exception {
+        var json = """
+                {"extra": {"nested": [1, 2]}, "movieInfoId": "7", "name": null,
+                 "cast": "Keanu Reeves", "release_date": "1999-03-24", "year": null}
+                """;
+
+        var movieInfo = movieMapper.readValue(json, MovieInfo.class);
+
+        assertEquals(7L, movieInfo.getMovieInfoId());
+        assertNull(movieInfo.getName());
+        assertEquals("Keanu Reeves", movieInfo.getCast());
+        assertEquals(LocalDate.of(1999, 3, 24), movieInfo.getReleaseDate());
+        assertNull(movieInfo.getYear());
+        assertNull(movieMapper.readValue("{\"movieInfoId\": 1, \"release_date\": null}", MovieInfo.class)
+                .getReleaseDate());
+    }
+
+    @Test
+    void rejectsStructuredNamesAndCastLikeTheDefaultMapper() {
+        var structuredName = "{\"name\": {\"en\": \"The Matrix\", \"year\": 1}, \"year\": 1999}";
+        var structuredCast = "{\"cast\": [\"Keanu Reeves\", {\"movieInfoId\": 2}], \"movieInfoId\": 1}";
+
+        for (var json : new String[]{structuredName, structuredCast}) {
+            assertThrows(JsonMappingException.class, () -> defaultMapper.readValue(json, MovieInfo.class));
+            assertThrows(JsonMappingException.class, () -> movieMapper.readValue(json, MovieInfo.class));
+        }
+    }
+
+    @Test
+    void fallsBackToIsoParsingForUnusualDates() throws Exception {
+        var movieInfo = movieMapper.readValue("{\"release_date\": \"+12345-01-01\"}", MovieInfo.class);
+        var dateArray = movieMapper.readValue("{\"release_date\": [1999, 3, 24]}", MovieInfo.class);
+
+        assertEquals(LocalDate.of(12345, 1, 1), movieInfo.getReleaseDate());
+        assertEquals(LocalDate.of(1999, 3, 24), dateArray.getReleaseDate());
+        assertThrows(JsonMappingException.class,
+                () -> movieMapper.readValue("{\"release_date\": \"1999-02-30\"}", MovieInfo.class));
+    }
+
+    @Test
+    void serializesLikeTheDefaultMapper() throws Exception {
+        var movieInfo = new MovieInfo(1L, "The Matrix", "Keanu Reeves", LocalDate.of(1999, 3, 24), 1999);
+
+        assertEquals(defaultMapper.writeValueAsString(movieInfo), movieMapper.writeValueAsString(movieInfo));
+    }
+
+    @Test
+    void streamsElementsThroughTheWebClientDecoder() throws Exception {
+        var bytes = Files.readAllBytes(Path.of("src/test/resources/__files/all-movies.json"));
+        var decoder = new Jackson2JsonDecoder(movieMapper);
+
+        var movies = decoder.decode(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)),
+                        ResolvableType.forClass(MovieInfo.class), MediaType.APPLICATION_JSON, Map.of())
+                .cast(MovieInfo.class)
+                .collectList()
+                .block();
+
+        assertEquals(10, movies.size());
+        assertEquals("Batman Begins", movies.get(0).getName());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockingExecutorsTest {
+
+    @Test
+    void virtualThreadsAreUsedWhenTheRuntimeSupportsThem() {
+        assertEquals(Runtime.version().feature() >= 21, BlockingExecutors.isVirtualThreadsSupported());
+    }
+
+    @Test
+    void newBlockingExecutorRunsTasks() throws InterruptedException {
+        var executor = BlockingExecutors.newBlockingExecutor(2);
+
+        var threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(), executor).join();
+
+        assertTrue(threadName.contains(BlockingExecutors.isVirtualThreadsSupported() ? "Virtual" : "movies-blocking-"),
+                threadName);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
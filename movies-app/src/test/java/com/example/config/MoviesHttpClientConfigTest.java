@@ -0,0 +1,91 @@
+package com.example.config;
+
+import com.example.cache.MovieCache;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesReactiveClient;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@WireMockTest
+class MoviesHttpClientConfigTest {
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesRestClient moviesRestClient(MoviesHttpClientConfig config) {
+        return new MoviesRestClient(new MoviesReactiveClient(webClients.create(config), MovieCache.NONE,
+                config.requestUris()));
+    }
+
+    private MoviesHttpClientConfig.MoviesHttpClientConfigBuilder config() {
+        return MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()));
+    }
+
+    @Test
+    void requestsGzipCompressedResponses() {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        var movies = moviesRestClient(config().build()).retrieveAllMovies();
+
+        assertEquals(10, movies.size());
+        wm.verify(getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader("Accept-Encoding", containing("gzip")));
+    }
+
+    @Test
+    void fallsBackToHttp11WhenH2cIsEnabled() {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        var movies = moviesRestClient(config().http2(true).build()).retrieveAllMovies();
+
+        assertEquals(10, movies.size());
+    }
+
+    @Test
+    void rejectsAcquiresBeyondPendingQueue() {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")
+                        .withFixedDelay(500)));
+        var config = config().maxConnections(1).pendingAcquireMaxCount(1).build();
+        var moviesReactiveClient = new MoviesReactiveClient(webClients.create(config), MovieCache.NONE,
+                config.requestUris());
+
+        var outcomes = Flux.range(0, 3)
+                .flatMap(i -> moviesReactiveClient.retrieveAllMovies()
+                        .collectList()
+                        .map(movies -> "ok")
+                        .onErrorResume(MovieErrorResponse.class, e -> Mono.just("rejected")))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertEquals(2, outcomes.stream().filter("ok"::equals).count());
+        assertEquals(1, outcomes.stream().filter("rejected"::equals).count());
+    }
+}
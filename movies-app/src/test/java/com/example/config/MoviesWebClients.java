@@ -0,0 +1,25 @@
+package com.example.config;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MoviesWebClients implements AfterEachCallback {
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    public WebClient create(MoviesHttpClientConfig config) {
+        var connectionProvider = config.connectionProvider();
+        connectionProviders.add(connectionProvider);
+        return config.webClient(connectionProvider);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+        connectionProviders.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EndpointTest {
+    private static final Duration BASE_EJECTION = Duration.ofMillis(200);
+    private static final Duration MAX_EJECTION = Duration.ofSeconds(1);
+
+    private final Endpoint endpoint = new Endpoint(URI.create("http://localhost:8081"));
+
+    private void eject() {
+        endpoint.onFailure(false, 0, 2, BASE_EJECTION, MAX_EJECTION);
+        endpoint.onFailure(false, 0, 2, BASE_EJECTION, MAX_EJECTION);
+    }
+
+    @Test
+    void onlyTheProbeReinstatesAnEjectedEndpoint() {
+        eject();
+
+        endpoint.onSuccess(false, 1_000);
+        assertTrue(endpoint.isEjected());
+
+        assertTrue(endpoint.tryStartProbe(BASE_EJECTION.toNanos()));
+        endpoint.onSuccess(false, 1_000);
+        assertTrue(endpoint.isEjected());
+
+        endpoint.onSuccess(true, 1_000);
+        assertFalse(endpoint.isEjected());
+    }
+
+    @Test
+    void staleFailureDoesNotEndTheProbe() {
+        eject();
+        assertTrue(endpoint.tryStartProbe(BASE_EJECTION.toNanos()));
+
+        endpoint.onFailure(false, BASE_EJECTION.toNanos(), 2, BASE_EJECTION, MAX_EJECTION);
+        endpoint.onSuccess(true, 1_000);
+
+        assertFalse(endpoint.isEjected());
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.loadbalancer;
+
+import com.example.cache.MovieCache;
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.service.MoviesReactiveClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class LoadBalancerFilterTest {
+    private static final String MOVIE_BY_ID = "/movies/v1/movie_infos/[0-9]+";
+
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension first =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    @RegisterExtension
+    private final WireMockExtension second =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    @RegisterExtension
+    private final WireMockExtension third =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private static String baseUrl(WireMockExtension wm) {
+        return String.format("http://localhost:%s", wm.getPort());
+    }
+
+    private static String unusedBaseUrl() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return String.format("http://localhost:%s", socket.getLocalPort());
+        }
+    }
+
+    private static void stubMovies(WireMockExtension wm, int status, int delayMillis) {
+        wm.stubFor(get(urlPathMatching(MOVIE_BY_ID))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(delayMillis)));
+    }
+
+    private static int requestCount(WireMockExtension wm) {
+        return wm.findAll(getRequestedFor(urlPathMatching(MOVIE_BY_ID))).size();
+    }
+
+    private MoviesReactiveClient moviesReactiveClient(LoadBalancerFilter loadBalancer) {
+        var config = MoviesHttpClientConfig.builder()
+                .loadBalancer(loadBalancer)
+                .build();
+        return new MoviesReactiveClient(webClients.create(config), MovieCache.NONE, config.requestUris());
+    }
+
+    private static void retrieve(MoviesReactiveClient client, int calls, int concurrency) {
+        Flux.range(1, calls)
+                .flatMap(id -> client.retrieveMovieById(id).onErrorResume(e -> Mono.empty()),
+                        concurrency)
+                .blockLast();
+    }
+
+    @Test
+    void spreadsConcurrentCallsAcrossEndpoints() {
+        List.of(first, second, third).forEach(wm -> stubMovies(wm, 200, 50));
+        var loadBalancer = new LoadBalancerFilter(List.of(baseUrl(first), baseUrl(second), baseUrl(third)));
+
+        retrieve(moviesReactiveClient(loadBalancer), 30, 30);
+
+        assertTrue(requestCount(first) >= 5, "first " + requestCount(first));
+        assertTrue(requestCount(second) >= 5, "second " + requestCount(second));
+        assertTrue(requestCount(third) >= 5, "third " + requestCount(third));
+        assertEquals(30, loadBalancer.endpoints().stream().mapToLong(EndpointSnapshot::requests).sum());
+    }
+
+    @Test
+    void prefersFasterEndpoint() {
+        stubMovies(first, 200, 0);
+        stubMovies(second, 200, 150);
+        var loadBalancer = new LoadBalancerFilter(List.of(baseUrl(first), baseUrl(second)));
+
+        retrieve(moviesReactiveClient(loadBalancer), 20, 1);
+
+        assertTrue(requestCount(first) >= 15, "first " + requestCount(first) + ", second " + requestCount(second));
+    }
+
+    @Test
+    void failsOverAndEjectsUnreachableEndpoint() throws IOException {
+        stubMovies(first, 200, 0);
+        var unreachable = unusedBaseUrl();
+        var loadBalancer = new LoadBalancerFilter(List.of(unreachable, baseUrl(first)), 2,
+                Duration.ofMinutes(1), Duration.ofMinutes(5));
+        var client = moviesReactiveClient(loadBalancer);
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals("Batman Begins", client.retrieveMovieById(i).block().getName());
+        }
+
+        assertEquals(10, requestCount(first));
+        var unreachableEndpoint = loadBalancer.endpoints().get(0);
+        assertTrue(unreachableEndpoint.ejected());
+        assertTrue(unreachableEndpoint.requests() <= 2, "requests " + unreachableEndpoint.requests());
+    }
+
+    @Test
+    void reintroducesEndpointAfterSuccessfulProbe() {
+        stubMovies(first, 200, 0);
+        stubMovies(second, 500, 0);
+        var nanos = new AtomicLong();
+        var loadBalancer = new LoadBalancerFilter(List.of(baseUrl(first), baseUrl(second)), 2,
+                Duration.ofMillis(200), Duration.ofSeconds(1), nanos::get);
+        var client = moviesReactiveClient(loadBalancer);
+
+        retrieve(client, 20, 1);
+        assertTrue(loadBalancer.endpoints().get(1).ejected());
+        assertEquals(2, requestCount(second));
+
+        stubMovies(second, 200, 0);
+        retrieve(client, 5, 1);
+        assertEquals(2, requestCount(second));
+
+        nanos.addAndGet(Duration.ofMillis(200).toNanos());
+        retrieve(client, 1, 1);
+
+        assertEquals(3, requestCount(second));
+        assertFalse(loadBalancer.endpoints().get(1).ejected());
+    }
+
+    @Test
+    void reEjectsEndpointWhenProbeIsCancelled() {
+        stubMovies(first, 200, 0);
+        stubMovies(second, 500, 0);
+        var nanos = new AtomicLong();
+        var loadBalancer = new LoadBalancerFilter(List.of(baseUrl(first), baseUrl(second)), 2,
+                Duration.ofMillis(200), Duration.ofSeconds(1), nanos::get);
+        var client = moviesReactiveClient(loadBalancer);
+
+        retrieve(client, 20, 1);
+        assertTrue(loadBalancer.endpoints().get(1).ejected());
+
+        stubMovies(second, 200, 1000);
+        nanos.addAndGet(Duration.ofMillis(200).toNanos());
+        WebClient.builder().baseUrl(baseUrl(first)).filter(loadBalancer).build()
+                .get().uri("/movies/v1/movie_infos/1")
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofMillis(100))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+        var probedRequests = requestCount(second);
+        assertTrue(loadBalancer.endpoints().get(1).ejected());
+
+        stubMovies(second, 200, 0);
+        nanos.addAndGet(Duration.ofMillis(200).toNanos());
+        retrieve(client, 1, 1);
+        assertEquals(probedRequests, requestCount(second));
+
+        nanos.addAndGet(Duration.ofMillis(200).toNanos());
+        retrieve(client, 1, 1);
+
+        assertEquals(probedRequests + 1, requestCount(second));
+        assertFalse(loadBalancer.endpoints().get(1).ejected());
+    }
+
+    @Test
+    void routesPrecompiledUrisThroughChosenEndpoint() {
+        List.of(first, second).forEach(wm -> wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json"))));
+        var client = moviesReactiveClient(new LoadBalancerFilter(List.of(baseUrl(first), baseUrl(second))));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(4, client.retrieveMoviesByName("Avengers " + i).count().block());
+        }
+
+        var total = first.findAll(getRequestedFor(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))).size()
+                + second.findAll(getRequestedFor(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))).size();
+        assertEquals(10, total);
+    }
+}
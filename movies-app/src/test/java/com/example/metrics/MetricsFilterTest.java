@@ -0,0 +1,120 @@
+package com.example.metrics;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class MetricsFilterTest {
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private final MoviesClientMetrics metrics = new MoviesClientMetrics();
+    private MoviesRestClient moviesRestClient;
+
+    @BeforeEach
+    void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .compression(false)
+                .filter(new MetricsFilter(metrics))
+                .build();
+        var webClient = webClients.create(config);
+        moviesRestClient = new MoviesRestClient(webClient);
+    }
+
+    private OperationMetricsSnapshot awaitRequests(String operation, long requests) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            var snapshot = metrics.snapshot(operation);
+            if (snapshot.isPresent() && snapshot.get().requests() >= requests) {
+                return snapshot.get();
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("no metrics recorded for " + operation);
+    }
+
+    @Test
+    void recordsLatencyPayloadAndStatusPerOperation() throws Exception {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")
+                        .withFixedDelay(50)));
+        long fileSize = Files.size(Path.of("src/test/resources/__files/all-movies.json"));
+
+        for (int i = 0; i < 3; i++) {
+            moviesRestClient.retrieveAllMovies();
+        }
+
+        var snapshot = awaitRequests("retrieveAllMovies", 3);
+        assertEquals(Map.of("2xx", 3L), snapshot.statusClasses());
+        assertEquals(3, snapshot.latencyMicros().count());
+        assertTrue(snapshot.timeToFirstByteMicros().p50() >= 50_000);
+        assertTrue(snapshot.latencyMicros().p99() >= snapshot.timeToFirstByteMicros().p50());
+        assertTrue(snapshot.decodeMicros().max() > 0);
+        assertEquals(fileSize, snapshot.payloadBytes().max(), fileSize / 1000.0);
+    }
+
+    @Test
+    void recordsStatusClassesAndTransportErrors() throws InterruptedException {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1")).willReturn(okJson("{\"movie_info_id\": 1}")));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/2")).willReturn(notFound()));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/3")).willReturn(serverError()));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/4"))
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+        moviesRestClient.retrieveMovieById(1);
+        for (int id = 2; id <= 4; id++) {
+            int movieId = id;
+            assertThrows(MovieErrorResponse.class, () -> moviesRestClient.retrieveMovieById(movieId));
+        }
+
+        var snapshot = awaitRequests("retrieveMovieById", 4);
+        assertEquals(Map.of("2xx", 1L, "4xx", 1L, "5xx", 1L, OperationMetrics.IO_ERROR, 1L),
+                snapshot.statusClasses());
+        assertEquals(3, snapshot.payloadBytes().count());
+    }
+
+    @Test
+    void keepsOperationsSeparate() throws InterruptedException {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        wm.stubFor(delete(urlPathEqualTo("/movies/v1/movie_infos/1")).willReturn(ok("Movie Deleted Successfully")));
+
+        moviesRestClient.retrieveAllMovies();
+        moviesRestClient.deleteMovie(1L);
+
+        awaitRequests("deleteMovie", 1);
+        awaitRequests("retrieveAllMovies", 1);
+        assertEquals(2, metrics.snapshot().size());
+        assertTrue(metrics.snapshot("updateMovie").isEmpty());
+    }
+}
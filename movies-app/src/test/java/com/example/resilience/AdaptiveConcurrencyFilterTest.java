@@ -0,0 +1,110 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.exception.MovieCallRejectedException;
+import com.example.service.MoviesReactiveClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class AdaptiveConcurrencyFilterTest {
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesReactiveClient moviesReactiveClient(AdaptiveConcurrencyFilter filter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(filter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesReactiveClient(webClient);
+    }
+
+    private void stubMovies(int status, int delayMillis) {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(delayMillis)));
+    }
+
+    private Flux<String> retrieveConcurrently(MoviesReactiveClient client, int calls) {
+        return Flux.range(1, calls)
+                .flatMap(id -> client.retrieveMovieById(id)
+                        .map(movie -> "ok")
+                        .onErrorResume(MovieCallRejectedException.class, e -> Mono.just(e.getReason().name()))
+                        .onErrorResume(e -> Mono.just("error")));
+    }
+
+    @Test
+    void queuesCallsBeyondLimitAndRejectsWhenQueueIsFull() {
+        stubMovies(200, 300);
+        var filter = new AdaptiveConcurrencyFilter(new VegasLimit(2, 2, 2), 2, Duration.ofSeconds(5));
+
+        var results = retrieveConcurrently(moviesReactiveClient(filter), 6).collectList().block();
+
+        assertEquals(4, results.stream().filter("ok"::equals).count());
+        assertEquals(2, results.stream().filter("CONCURRENCY_LIMITED"::equals).count());
+        var snapshot = filter.snapshot();
+        assertEquals(0, snapshot.inFlight());
+        assertEquals(0, snapshot.queued());
+        assertEquals(2, snapshot.rejected());
+        assertTrue(snapshot.queueDelayMicros().max() >= 250_000, "queue delay " + snapshot.queueDelayMicros());
+    }
+
+    @Test
+    void rejectsQueuedCallsAfterMaxQueueWait() {
+        stubMovies(200, 500);
+        var filter = new AdaptiveConcurrencyFilter(new VegasLimit(1, 1, 1), 10, Duration.ofMillis(100));
+
+        var results = retrieveConcurrently(moviesReactiveClient(filter), 3).collectList().block();
+
+        assertEquals(1, results.stream().filter("ok"::equals).count());
+        assertEquals(2, results.stream().filter("CONCURRENCY_LIMITED"::equals).count());
+        assertEquals(0, filter.snapshot().queued());
+        wm.verify(exactly(1), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void raisesLimitWhileLatencyIsStable() {
+        stubMovies(200, 20);
+        var filter = new AdaptiveConcurrencyFilter(new VegasLimit(4, 1, 64), 100, Duration.ofSeconds(5));
+        var client = moviesReactiveClient(filter);
+
+        for (int i = 0; i < 5; i++) {
+            retrieveConcurrently(client, 20).blockLast();
+        }
+
+        assertTrue(filter.snapshot().limit() > 4, "limit " + filter.snapshot().limit());
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    void lowersLimitWhenServiceSheddingLoad() {
+        stubMovies(503, 0);
+        var filter = new AdaptiveConcurrencyFilter(new VegasLimit(20, 2, 64), 100, Duration.ofSeconds(5));
+
+        var results = retrieveConcurrently(moviesReactiveClient(filter), 10).collectList().block();
+
+        assertEquals(10, results.stream().filter("error"::equals).count());
+        assertTrue(filter.snapshot().limit() < 20, "limit " + filter.snapshot().limit());
+        assertEquals(0, filter.inFlight());
+    }
+}
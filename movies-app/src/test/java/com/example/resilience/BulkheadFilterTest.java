@@ -0,0 +1,108 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.exception.MovieCallRejectedException;
+import com.example.service.MoviesReactiveClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@WireMockTest
+class BulkheadFilterTest {
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesReactiveClient moviesReactiveClient(BulkheadFilter bulkheadFilter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(bulkheadFilter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesReactiveClient(webClient);
+    }
+
+    private void stubSlowMovies() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(500)));
+    }
+
+    private Flux<String> retrieveConcurrently(MoviesReactiveClient client, int calls) {
+        return Flux.range(1, calls)
+                .flatMap(id -> client.retrieveMovieById(id)
+                        .map(movie -> "ok")
+                        .onErrorResume(MovieCallRejectedException.class, e -> Mono.just(e.getReason().name())));
+    }
+
+    @Test
+    void rejectsCallsBeyondMaxConcurrency() {
+        stubSlowMovies();
+        var bulkheadFilter = new BulkheadFilter(2);
+
+        var results = retrieveConcurrently(moviesReactiveClient(bulkheadFilter), 5).collectList().block();
+
+        assertEquals(2, results.stream().filter("ok"::equals).count());
+        assertEquals(3, results.stream().filter("BULKHEAD_FULL"::equals).count());
+        assertEquals(3, bulkheadFilter.rejectedCount("retrieveMovieById"));
+        assertEquals(2, bulkheadFilter.bulkhead("retrieveMovieById").getMetrics().getAvailableConcurrentCalls());
+        wm.verify(exactly(2), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void isolatesEndpointsFromEachOther() {
+        stubSlowMovies();
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        var bulkheadFilter = new BulkheadFilter(BulkheadFilter.config(10),
+                Map.of("retrieveMovieById", BulkheadFilter.config(1)));
+        var client = moviesReactiveClient(bulkheadFilter);
+
+        var results = Flux.merge(retrieveConcurrently(client, 3),
+                        client.retrieveAllMovies().count().map(count -> "all:" + count))
+                .collectList()
+                .block();
+
+        assertEquals(1, results.stream().filter("ok"::equals).count());
+        assertEquals(2, results.stream().filter("BULKHEAD_FULL"::equals).count());
+        assertEquals(1, results.stream().filter("all:10"::equals).count());
+        assertEquals(0, bulkheadFilter.rejectedCount("retrieveAllMovies"));
+    }
+
+    @Test
+    void holdsPermitUntilBodyIsConsumed() {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        var bulkheadFilter = new BulkheadFilter(1);
+        var client = moviesReactiveClient(bulkheadFilter);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(10, client.retrieveAllMovies().count().block());
+        }
+
+        assertEquals(1, bulkheadFilter.bulkhead("retrieveAllMovies").getMetrics().getAvailableConcurrentCalls());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.exception.MovieCallRejectedException;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@WireMockTest
+class CircuitBreakerFilterTest {
+    private static final String MOVIE_URL = "/movies/v1/movie_infos/1";
+
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private final List<CircuitBreaker.StateTransition> transitions = new ArrayList<>();
+
+    private CircuitBreakerFilter circuitBreakerFilter(CircuitBreakerConfig.Builder config) {
+        var circuitBreaker = CircuitBreaker.of("movies", config
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event -> transitions.add(event.getStateTransition()));
+        return new CircuitBreakerFilter(circuitBreaker);
+    }
+
+    private MoviesRestClient moviesRestClient(CircuitBreakerFilter circuitBreakerFilter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(circuitBreakerFilter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesRestClient(webClient);
+    }
+
+    private void stubMovie() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+    }
+
+    @Test
+    void opensOnFailureRateAndFailsFast() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(serviceUnavailable()));
+        var circuitBreakerFilter = circuitBreakerFilter(CircuitBreakerConfig.custom().failureRateThreshold(50));
+        var client = moviesRestClient(circuitBreakerFilter);
+
+        for (int i = 0; i < 4; i++) {
+            var exception = assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+            assertEquals("Service Unavailable", exception.getMessage());
+        }
+        var rejected = assertThrows(MovieCallRejectedException.class, () -> client.retrieveMovieById(1));
+
+        assertEquals(MovieCallRejectedException.Reason.CIRCUIT_OPEN, rejected.getReason());
+        assertEquals("retrieveMovieById", rejected.getOperation());
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerFilter.state());
+        assertEquals(1, circuitBreakerFilter.rejectedCount());
+        assertEquals(List.of(CircuitBreaker.StateTransition.CLOSED_TO_OPEN), transitions);
+        wm.verify(exactly(4), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void opensOnSlowCallRate() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(150)));
+        var circuitBreakerFilter = circuitBreakerFilter(CircuitBreakerConfig.custom()
+                .slowCallRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofMillis(100)));
+        var client = moviesRestClient(circuitBreakerFilter);
+
+        for (int i = 0; i < 4; i++) {
+            client.retrieveMovieById(1);
+        }
+
+        assertThrows(MovieCallRejectedException.class, () -> client.retrieveMovieById(1));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerFilter.state());
+    }
+
+    @Test
+    void opensOnNonStandardServerErrorStatus() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(aResponse().withStatus(599)));
+        var circuitBreakerFilter = circuitBreakerFilter(CircuitBreakerConfig.custom().failureRateThreshold(50));
+        var client = moviesRestClient(circuitBreakerFilter);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerFilter.state());
+    }
+
+    @Test
+    void clientErrorsDoNotOpenTheCircuit() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(notFound()));
+        var circuitBreakerFilter = circuitBreakerFilter(CircuitBreakerConfig.custom());
+        var client = moviesRestClient(circuitBreakerFilter);
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerFilter.state());
+        wm.verify(exactly(6), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void halfOpenProbeClosesTheCircuit() throws InterruptedException {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(serverError()));
+        var circuitBreakerFilter = circuitBreakerFilter(CircuitBreakerConfig.custom()
+                .waitDurationInOpenState(Duration.ofMillis(100)));
+        var client = moviesRestClient(circuitBreakerFilter);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerFilter.state());
+
+        Thread.sleep(150);
+        stubMovie();
+        var movie = client.retrieveMovieById(1);
+
+        assertEquals("Batman Begins", movie.getName());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerFilter.state());
+        assertEquals(List.of(CircuitBreaker.StateTransition.CLOSED_TO_OPEN,
+                CircuitBreaker.StateTransition.OPEN_TO_HALF_OPEN,
+                CircuitBreaker.StateTransition.HALF_OPEN_TO_CLOSED), transitions);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class HedgingFilterTest {
+    private static final String MOVIE_URL = "/movies/v1/movie_infos/1";
+
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesRestClient moviesRestClient(HedgingFilter hedgingFilter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(hedgingFilter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesRestClient(webClient);
+    }
+
+    private void stubSlowThenFastMovie() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).inScenario("hedge")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(3000))
+                .willSetStateTo("fast"));
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).inScenario("hedge")
+                .whenScenarioStateIs("fast")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+    }
+
+    @Test
+    void hedgedRequestWinsOverSlowPrimary() {
+        stubSlowThenFastMovie();
+        var hedgingFilter = HedgingFilter.builder()
+                .warmupRequests(0)
+                .minDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(100))
+                .build();
+
+        long start = System.nanoTime();
+        var movie = moviesRestClient(hedgingFilter).retrieveMovieById(1);
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals("Batman Begins", movie.getName());
+        assertEquals(1, hedgingFilter.hedgeCount());
+        assertTrue(elapsed.compareTo(Duration.ofSeconds(2)) < 0, "took " + elapsed);
+        wm.verify(exactly(2), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void doesNotHedgeFastResponses() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+        var hedgingFilter = HedgingFilter.builder()
+                .warmupRequests(0)
+                .minDelay(Duration.ofSeconds(1))
+                .build();
+        var client = moviesRestClient(hedgingFilter);
+
+        for (int i = 0; i < 5; i++) {
+            client.retrieveMovieById(1);
+        }
+
+        assertEquals(0, hedgingFilter.hedgeCount());
+        wm.verify(exactly(5), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void hedgeDelayTracksObservedPercentile() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+        var hedgingFilter = HedgingFilter.builder()
+                .windowSize(10)
+                .warmupRequests(10)
+                .minDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofSeconds(5))
+                .build();
+        var client = moviesRestClient(hedgingFilter);
+
+        assertEquals(Duration.ofSeconds(5), hedgingFilter.hedgeDelay());
+        for (int i = 0; i < 10; i++) {
+            client.retrieveMovieById(1);
+        }
+
+        assertTrue(hedgingFilter.hedgeDelay().compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void doesNotHedgeWhenBudgetIsSpent() {
+        stubSlowThenFastMovie();
+        var hedgingFilter = HedgingFilter.builder()
+                .warmupRequests(0)
+                .minDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(100))
+                .hedgeBudget(new RetryBudget(0, 0))
+                .build();
+
+        var movie = moviesRestClient(hedgingFilter).retrieveMovieById(1);
+
+        assertEquals("Batman Begins", movie.getName());
+        assertEquals(0, hedgingFilter.hedgeCount());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void surfacesPrimaryErrorWhenBothAttemptsFail() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL))
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+        var hedgingFilter = HedgingFilter.builder()
+                .warmupRequests(0)
+                .minDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(10))
+                .build();
+
+        var exception = assertThrows(MovieErrorResponse.class,
+                () -> moviesRestClient(hedgingFilter).retrieveMovieById(1));
+
+        assertInstanceOf(WebClientRequestException.class, exception.getCause());
+        assertEquals(1, hedgingFilter.hedgeCount());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieCallRejectedException;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesReactiveClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class RateLimiterFilterTest {
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesReactiveClient moviesReactiveClient(RateLimiterFilter rateLimiterFilter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(rateLimiterFilter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesReactiveClient(webClient);
+    }
+
+    private void stubMovies() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+    }
+
+    private Flux<String> retrieveConcurrently(MoviesReactiveClient client, int calls) {
+        return Flux.range(1, calls)
+                .flatMap(id -> client.retrieveMovieById(id)
+                        .map(movie -> "ok")
+                        .onErrorResume(MovieCallRejectedException.class, e -> Mono.just(e.getReason().name())));
+    }
+
+    @Test
+    void failFastRejectsCallsBeyondBurst() {
+        stubMovies();
+        var rateLimiterFilter = new RateLimiterFilter(RateLimit.failFast(0.1, 2));
+
+        var results = retrieveConcurrently(moviesReactiveClient(rateLimiterFilter), 5).collectList().block();
+
+        assertEquals(2, results.stream().filter("ok"::equals).count());
+        assertEquals(3, results.stream().filter("RATE_LIMITED"::equals).count());
+        assertEquals(3, rateLimiterFilter.rejectedCount("retrieveMovieById"));
+        wm.verify(exactly(2), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void waitingModeSpreadsCallsAtConfiguredRate() {
+        stubMovies();
+        var rateLimiterFilter = new RateLimiterFilter(RateLimit.waiting(10, 1, Duration.ofSeconds(1)));
+        var client = moviesReactiveClient(rateLimiterFilter);
+
+        var start = System.nanoTime();
+        var results = retrieveConcurrently(client, 4).collectList().block();
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertEquals(4, results.stream().filter("ok"::equals).count());
+        assertTrue(elapsed.compareTo(Duration.ofMillis(290)) >= 0, "elapsed " + elapsed);
+    }
+
+    @Test
+    void writesHaveTheirOwnQuota() {
+        stubMovies();
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("add-movie.json")));
+        var rateLimiterFilter = new RateLimiterFilter(RateLimit.failFast(0.1, 1), RateLimit.failFast(0.1, 1),
+                Map.of("retrieveAllMovies", RateLimit.failFast(0.1, 1)));
+        var client = moviesReactiveClient(rateLimiterFilter);
+
+        assertEquals(1, retrieveConcurrently(client, 3).filter("ok"::equals).count().block());
+        var movie = new MovieInfo(null, "The Matrix", "Keanu Reeves", LocalDate.of(1999, 3, 24), 1999);
+        client.addMovie(movie).block();
+        assertThrows(MovieCallRejectedException.class, () -> client.addMovie(movie).block());
+        assertEquals(1, rateLimiterFilter.availablePermits("retrieveAllMovies"));
+    }
+
+    @Test
+    void retryAfterPausesFurtherCalls() {
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Retry-After", "30")
+                        .withBody("Service Unavailable")));
+        stubMovies();
+        var rateLimiterFilter = new RateLimiterFilter(RateLimit.failFast(100, 10));
+        var client = moviesReactiveClient(rateLimiterFilter);
+
+        assertThrows(MovieErrorResponse.class, () -> client.retrieveAllMovies().blockLast());
+        var rejected = assertThrows(MovieCallRejectedException.class, () -> client.retrieveMovieById(1).block());
+
+        assertEquals(MovieCallRejectedException.Reason.RATE_LIMITED, rejected.getReason());
+        wm.verify(exactly(0), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void parsesRetryAfterSecondsAndHttpDate() {
+        assertEquals(Duration.ofSeconds(120), RateLimiterFilter.parseRetryAfter("120").orElseThrow());
+
+        var date = ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+        var retryAfter = RateLimiterFilter.parseRetryAfter(date).orElseThrow();
+        assertTrue(retryAfter.compareTo(Duration.ofSeconds(55)) > 0, "retryAfter " + retryAfter);
+        assertTrue(retryAfter.compareTo(Duration.ofSeconds(61)) < 0, "retryAfter " + retryAfter);
+
+        assertTrue(RateLimiterFilter.parseRetryAfter("soon").isEmpty());
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.resilience;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@WireMockTest
+class RetryFilterTest {
+    private static final String MOVIE_URL = "/movies/v1/movie_infos/1";
+
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesRestClient moviesRestClient(RetryFilter retryFilter) {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .filter(retryFilter)
+                .build();
+        var webClient = webClients.create(config);
+        return new MoviesRestClient(webClient);
+    }
+
+    private RetryFilter.RetryFilterBuilder fastRetries() {
+        return RetryFilter.builder()
+                .firstBackoff(Duration.ofMillis(5))
+                .maxBackoff(Duration.ofMillis(20));
+    }
+
+    private void stubFailuresThenMovie(String... failures) {
+        var state = Scenario.STARTED;
+        for (int i = 0; i < failures.length; i++) {
+            var nextState = "attempt-" + (i + 2);
+            var response = "fault".equals(failures[i])
+                    ? aResponse().withFault(Fault.EMPTY_RESPONSE)
+                    : aResponse().withStatus(Integer.parseInt(failures[i]));
+            wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).inScenario("retry")
+                    .whenScenarioStateIs(state)
+                    .willReturn(response)
+                    .willSetStateTo(nextState));
+            state = nextState;
+        }
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).inScenario("retry")
+                .whenScenarioStateIs(state)
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+    }
+
+    @Test
+    void retriesServerErrorsUntilSuccess() {
+        stubFailuresThenMovie("503", "500");
+        var retryFilter = fastRetries().build();
+
+        var movie = moviesRestClient(retryFilter).retrieveMovieById(1);
+
+        assertEquals("Batman Begins", movie.getName());
+        assertEquals(2, retryFilter.retryCount());
+        wm.verify(exactly(3), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void retriesConnectionFaults() {
+        stubFailuresThenMovie("fault");
+        var retryFilter = fastRetries().build();
+
+        var movie = moviesRestClient(retryFilter).retrieveMovieById(1);
+
+        assertEquals("Batman Begins", movie.getName());
+        assertEquals(1, retryFilter.retryCount());
+    }
+
+    @Test
+    void surfacesLastResponseWhenAttemptsExhausted() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(serviceUnavailable()));
+        var retryFilter = fastRetries().maxAttempts(3).build();
+
+        var exception = assertThrows(MovieErrorResponse.class,
+                () -> moviesRestClient(retryFilter).retrieveMovieById(1));
+
+        assertEquals("Service Unavailable", exception.getMessage());
+        wm.verify(exactly(3), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(notFound()));
+        var retryFilter = fastRetries().build();
+
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient(retryFilter).retrieveMovieById(1));
+
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentRequests() {
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1)).willReturn(serviceUnavailable()));
+        var retryFilter = fastRetries().build();
+        var movie = new MovieInfo(null, "The Matrix", "Keanu Reeves", LocalDate.of(1999, 3, 24), 1999);
+
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient(retryFilter).addMovie(movie));
+
+        wm.verify(exactly(1), postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+    }
+
+    @Test
+    void retriesDeleteMovie() {
+        wm.stubFor(delete(urlPathEqualTo(MOVIE_URL)).inScenario("delete")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER))
+                .willSetStateTo("deleted"));
+        wm.stubFor(delete(urlPathEqualTo(MOVIE_URL)).inScenario("delete")
+                .whenScenarioStateIs("deleted")
+                .willReturn(ok("Movie Deleted Successfully")));
+
+        var result = moviesRestClient(fastRetries().build()).deleteMovie(1L);
+
+        assertEquals("Movie Deleted Successfully", result);
+        wm.verify(exactly(2), deleteRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsSpent() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_URL)).willReturn(serviceUnavailable()));
+        var retryFilter = fastRetries()
+                .maxAttempts(5)
+                .retryBudget(new RetryBudget(0, 2))
+                .build();
+        var client = moviesRestClient(retryFilter);
+
+        assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+        assertThrows(MovieErrorResponse.class, () -> client.retrieveMovieById(1));
+
+        assertEquals(2, retryFilter.retryCount());
+        wm.verify(exactly(4), getRequestedFor(urlPathEqualTo(MOVIE_URL)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        var bucket = new TokenBucket(10, 3, nanos::get);
+
+        assertEquals(3, bucket.availablePermits());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        advance(Duration.ofMillis(100));
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        advance(Duration.ofSeconds(10));
+        assertEquals(3, bucket.availablePermits());
+    }
+
+    @Test
+    void reservesFuturePermitsWithinMaxWait() {
+        var bucket = new TokenBucket(10, 1, nanos::get);
+        var maxWait = Duration.ofMillis(250);
+
+        assertEquals(0, bucket.tryReserve(maxWait));
+        assertEquals(Duration.ofMillis(100).toNanos(), bucket.tryReserve(maxWait));
+        assertEquals(Duration.ofMillis(200).toNanos(), bucket.tryReserve(maxWait));
+        assertEquals(TokenBucket.REJECTED, bucket.tryReserve(maxWait));
+    }
+
+    @Test
+    void pauseBlocksPermitsUntilElapsed() {
+        var bucket = new TokenBucket(100, 10, nanos::get);
+
+        bucket.pauseFor(Duration.ofSeconds(2));
+
+        assertEquals(0, bucket.availablePermits());
+        assertFalse(bucket.tryAcquire());
+        assertEquals(Duration.ofSeconds(2).toNanos(), bucket.tryReserve(Duration.ofSeconds(5)));
+        advance(Duration.ofSeconds(2));
+        assertFalse(bucket.tryAcquire());
+        advance(Duration.ofMillis(10));
+        assertTrue(bucket.tryAcquire());
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedBurst() throws InterruptedException {
+        var bucket = new TokenBucket(1, 50, nanos::get);
+        var acquired = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryAcquire()) {
+                    acquired.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(50, acquired.get());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VegasLimitTest {
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void growsWhileLatencyStaysAtBaseline() {
+        var limit = new VegasLimit(10, 1, 100);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(RTT, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() > 10, "limit " + limit.limit());
+        assertEquals(RTT, limit.noLoadRttNanos());
+    }
+
+    @Test
+    void shrinksWhenQueueingDelayBuildsUp() {
+        var limit = new VegasLimit(50, 1, 100);
+        limit.onSample(RTT, 50, false);
+
+        for (int i = 0; i < 5; i++) {
+            limit.onSample(RTT * 3, limit.limit(), false);
+        }
+
+        assertTrue(limit.limit() < 50, "limit " + limit.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenApplicationLimited() {
+        var limit = new VegasLimit(20, 1, 100);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(RTT, 2, false);
+        }
+
+        assertEquals(20, limit.limit());
+    }
+
+    @Test
+    void backsOffOnDropsDownToMinimum() {
+        var limit = new VegasLimit(20, 5, 100);
+
+        limit.onSample(RTT, 20, true);
+        assertEquals(18, limit.limit());
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 20, true);
+        }
+        assertEquals(5, limit.limit());
+    }
+
+    @Test
+    void probesNoLoadLatencyPeriodically() {
+        var limit = new VegasLimit(10, 1, 100, 5, 0.9);
+        limit.onSample(RTT, 1, false);
+
+        for (int i = 0; i < 4; i++) {
+            limit.onSample(RTT * 2, 1, false);
+        }
+
+        assertEquals(RTT * 2, limit.noLoadRttNanos());
+    }
+}
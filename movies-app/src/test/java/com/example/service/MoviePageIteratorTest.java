@@ -0,0 +1,167 @@
+package com.example.service;
+
+import com.example.dto.MovieField;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class MoviePageIteratorTest {
+    private MoviesRestClient moviesRestClient;
+    private MoviesReactiveClient moviesReactiveClient;
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    @BeforeEach
+    void setUp() {
+        moviesReactiveClient = new MoviesReactiveClient(WebClient.create("http://localhost:" + wm.getPort()));
+        moviesRestClient = new MoviesRestClient(moviesReactiveClient);
+    }
+
+    @Test
+    void fetchesNextPageOnlyWhenTheCallerAdvances() {
+        stubPages();
+
+        var movies = moviesRestClient.iterateAllMovies(2);
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+
+        assertEquals(1L, movies.next().getMovieInfoId());
+        assertEquals(2L, movies.next().getMovieInfoId());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1)));
+
+        assertEquals(List.of(3L, 4L, 5L), remainingIds(movies));
+        assertFalse(movies.hasNext());
+        wm.verify(exactly(4), getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1)));
+        wm.verify(getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withQueryParam("after", equalTo("4"))
+                .withQueryParam("limit", equalTo("2")));
+    }
+
+    @Test
+    void prefetchesOnePageAhead() throws InterruptedException {
+        stubPages();
+
+        var movies = moviesRestClient.iterateAllMovies(2, true);
+        assertEquals(1L, movies.next().getMovieInfoId());
+        awaitRequests(2);
+
+        assertEquals(List.of(2L, 3L, 4L, 5L), remainingIds(movies));
+        wm.verify(exactly(4), getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1)));
+    }
+
+    @Test
+    void stopsOnEmptyPageAfterFullLastPage() {
+        stubPage(null, 1, 2);
+        stubPage("2", 3, 4);
+        stubPage("4");
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), remainingIds(moviesRestClient.iterateAllMovies(2, true)));
+    }
+
+    @Test
+    void keepsPagingWhenTheServerReturnsShortPages() {
+        stubPageWithLimit(null, 5, 1, 2);
+        stubPageWithLimit("2", 5, 3);
+        stubPageWithLimit("3", 5);
+
+        assertEquals(List.of(1L, 2L, 3L), remainingIds(moviesRestClient.iterateAllMovies(5)));
+        StepVerifier.create(moviesReactiveClient.retrieveAllMoviesPaged(5).map(MovieInfo::getMovieInfoId))
+                .expectNext(1L, 2L, 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void propagatesPageErrors() {
+        stubPage(null, 1, 2);
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withQueryParam("after", equalTo("2"))
+                .willReturn(aResponse().withStatus(500)));
+
+        var movies = moviesRestClient.iterateAllMovies(2);
+        movies.next();
+        movies.next();
+
+        assertThrows(MovieErrorResponse.class, movies::hasNext);
+    }
+
+    @Test
+    void sparsePagesAlwaysRequestTheMovieId() {
+        stubPage(null, 1);
+        stubPage("1");
+
+        var movies = remainingIds(moviesRestClient.iterateAllMovies(2, false, Set.of(MovieField.NAME)));
+
+        assertEquals(List.of(1L), movies);
+        wm.verify(getRequestedFor(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withQueryParam("fields", equalTo("movieInfoId,name")));
+    }
+
+    @Test
+    void retrieveAllMoviesPaged() {
+        stubPages();
+
+        StepVerifier.create(moviesReactiveClient.retrieveAllMoviesPaged(2).map(MovieInfo::getMovieInfoId))
+                .expectNext(1L, 2L, 3L, 4L, 5L)
+                .verifyComplete();
+    }
+
+    private void stubPages() {
+        stubPage(null, 1, 2);
+        stubPage("2", 3, 4);
+        stubPage("4", 5);
+        stubPage("5");
+    }
+
+    private void stubPage(String after, long... movieIds) {
+        stubPageWithLimit(after, 2, movieIds);
+    }
+
+    private void stubPageWithLimit(String after, int limit, long... movieIds) {
+        var body = LongStream.of(movieIds)
+                .mapToObj(id -> String.format(
+                        "{\"movieInfoId\":%d,\"name\":\"Movie %d\",\"year\":2005,\"cast\":\"Christian Bale\"}", id, id))
+                .collect(Collectors.joining(",", "[", "]"));
+        wm.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withQueryParam("after", after == null ? absent() : equalTo(after))
+                .withQueryParam("limit", equalTo(String.valueOf(limit)))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && wm.findAll(getRequestedFor(anyUrl())).size() < count; i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(wm.findAll(getRequestedFor(anyUrl())).size() >= count);
+    }
+
+    private static List<Long> remainingIds(MoviePageIterator movies) {
+        var ids = new ArrayList<Long>();
+        movies.forEachRemaining(movie -> ids.add(movie.getMovieInfoId()));
+        return ids;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.service;
+
+import com.example.constants.MoviesAppConstants;
+import com.example.dto.MovieField;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@WireMockTest
+class MoviesReactiveClientTest {
+    private MoviesReactiveClient moviesReactiveClient;
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig()
+                            .dynamicPort()
+                            .extensions(new ResponseTemplateTransformer(false)))
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        moviesReactiveClient = new MoviesReactiveClient(WebClient.create(baseUrl));
+    }
+
+    @Test
+    void retrieveAllMovies() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        StepVerifier.create(moviesReactiveClient.retrieveAllMovies())
+                .expectNextCount(10)
+                .verifyComplete();
+    }
+
+    @Test
+    void retrieveAllMoviesWithSparseFields() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .withQueryParam("fields", equalTo("movieInfoId,name"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[{\"movieInfoId\":1,\"name\":\"Batman Begins\"}]")));
+
+        StepVerifier.create(moviesReactiveClient.retrieveAllMovies(Set.of(MovieField.NAME, MovieField.MOVIE_INFO_ID)))
+                .assertNext(movie -> {
+                    assertEquals("Batman Begins", movie.getName());
+                    assertNull(movie.getCast());
+                    assertNull(movie.getReleaseDate());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllMoviesHonoursDemand() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/x-ndjson")
+                        .withBodyFile("all-movies.ndjson")));
+
+        StepVerifier.create(moviesReactiveClient.streamAllMovies(), 2)
+                .assertNext(movie -> assertEquals(1L, movie.getMovieInfoId()))
+                .assertNext(movie -> assertEquals(2L, movie.getMovieInfoId()))
+                .thenRequest(8)
+                .expectNextCount(8)
+                .verifyComplete();
+    }
+
+    @Test
+    void retrieveMovieById() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+
+        StepVerifier.create(moviesReactiveClient.retrieveMovieById(1))
+                .assertNext(movie -> assertEquals("Batman Begins", movie.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    void retrieveMovieByIdNotFound() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movie-id.json")));
+
+        StepVerifier.create(moviesReactiveClient.retrieveMovieById(100))
+                .expectError(MovieErrorResponse.class)
+                .verify();
+    }
+
+    @Test
+    void retrieveMovieByIdCoalescesConcurrentRequests() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(500)));
+
+        var movies = Flux.range(0, 50)
+                .flatMap(i -> moviesReactiveClient.retrieveMovieById(1))
+                .collectList()
+                .block();
+
+        assertEquals(50, movies.size());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/1")));
+    }
+
+    @Test
+    void retrieveMovieByIdCoalescedRequestsShareError() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/100"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movie-id.json")
+                        .withFixedDelay(500)));
+
+        var errors = Flux.range(0, 10)
+                .flatMap(i -> moviesReactiveClient.retrieveMovieById(100)
+                        .<Throwable>map(movie -> new AssertionError("expected an error"))
+                        .onErrorResume(Mono::just))
+                .distinct()
+                .collectList()
+                .block();
+
+        assertEquals(1, errors.size());
+        assertInstanceOf(MovieErrorResponse.class, errors.get(0));
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/100")));
+    }
+
+    @Test
+    void retrieveMoviesByName() {
+        var movieName = "Avengers";
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo(movieName))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+
+        StepVerifier.create(moviesReactiveClient.retrieveMoviesByName(movieName))
+                .expectNextCount(4)
+                .verifyComplete();
+    }
+
+    @Test
+    void addMovie() {
+        var movie = new MovieInfo(null, "The Matrix", "Keanu Reeves",
+                LocalDate.of(1999, 3, 24), 1999);
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("The Matrix")))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("add-movie.json")));
+
+        StepVerifier.create(moviesReactiveClient.addMovie(movie))
+                .assertNext(addedMovie -> assertNotNull(addedMovie.getMovieInfoId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteMovieByName() {
+        var movieName = "The Matrix";
+        wm.stubFor(delete(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo(movieName))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")));
+
+        StepVerifier.create(moviesReactiveClient.deleteMovieByName(movieName))
+                .expectNext("Movie Deleted Successfully")
+                .verifyComplete();
+    }
+
+    @Test
+    void retrieveAllMoviesIsLazy() {
+        moviesReactiveClient.retrieveAllMovies();
+
+        wm.verify(exactly(0), getRequestedFor(anyUrl()));
+    }
+}
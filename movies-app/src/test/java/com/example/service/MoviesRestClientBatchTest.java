@@ -0,0 +1,157 @@
+package com.example.service;
+
+import com.example.constants.MoviesAppConstants;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+@WireMockTest
+class MoviesRestClientBatchTest {
+    private MoviesRestClient moviesRestClient;
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig()
+                            .dynamicPort()
+                            .extensions(new ResponseTemplateTransformer(false)))
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        moviesRestClient = new MoviesRestClient(WebClient.create(baseUrl));
+    }
+
+    private void stubMoviesById() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie-template.json")
+                        .withTransformers("response-template")));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/3"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movie-id.json")));
+    }
+
+    @Test
+    void retrieveMoviesByIdsFallsBackToSingleRequests() {
+        stubMoviesById();
+
+        var movies = moviesRestClient.retrieveMoviesByIds(List.of(5L, 1L, 3L, 2L), 2);
+
+        assertEquals(List.of(5L, 1L, 3L, 2L), movies.stream().map(MovieLookup::movieId).toList());
+        assertTrue(movies.get(0).isFound());
+        assertEquals(5L, movies.get(0).movieInfo().getMovieInfoId());
+        assertFalse(movies.get(2).isFound());
+        assertNotNull(movies.get(2).error());
+        assertTrue(movies.get(3).isFound());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void retrieveMoviesByIdsRemembersMissingMultiGet() {
+        stubMoviesById();
+
+        moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L));
+        moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L));
+
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1)));
+        wm.verify(exactly(4), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void retrieveMoviesByIdsUsesMultiGet() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1))
+                .withQueryParam("ids", equalTo("1,2,42"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        var movies = moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L, 42L));
+
+        assertEquals("Batman Begins", movies.get(0).movieInfo().getName());
+        assertEquals("Dark Knight", movies.get(1).movieInfo().getName());
+        assertFalse(movies.get(2).isFound());
+        wm.verify(exactly(0), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+
+    @Test
+    void retrieveMoviesByIdsChunksMultiGet() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        var ids = LongStream.rangeClosed(1, 250).boxed().toList();
+
+        var movies = moviesRestClient.retrieveMoviesByIds(ids);
+
+        assertEquals(250, movies.size());
+        assertEquals(10, movies.stream().filter(MovieLookup::isFound).count());
+        wm.verify(exactly(3), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void retrieveMoviesByIdsReportsServerErrorPerId() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1))
+                .willReturn(serverError()));
+
+        var movies = moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L));
+
+        assertEquals(2, movies.size());
+        assertTrue(movies.stream().noneMatch(MovieLookup::isFound));
+    }
+
+    @Test
+    void retrieveMoviesByIdsFallbackStaysWithinConcurrency() {
+        stubMoviesById();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        var client = new MoviesRestClient(WebClient.builder()
+                .baseUrl(baseUrl)
+                .filter((request, next) -> Mono.defer(() -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            return next.exchange(request);
+                        })
+                        .doFinally(signal -> inFlight.decrementAndGet()))
+                .build());
+        var ids = LongStream.rangeClosed(1, 250).boxed().toList();
+
+        var movies = client.retrieveMoviesByIds(ids, 4);
+
+        assertEquals(ids, movies.stream().map(MovieLookup::movieId).toList());
+        assertTrue(maxInFlight.get() <= 4, "max in flight " + maxInFlight.get());
+    }
+
+    @Test
+    void retrieveMoviesByIdsKeepsMultiGetAfterBadRequest() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1))
+                .willReturn(aResponse().withStatus(400)));
+
+        var movies = moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L));
+        moviesRestClient.retrieveMoviesByIds(List.of(1L, 2L));
+
+        assertEquals(2, movies.size());
+        assertTrue(movies.stream().noneMatch(MovieLookup::isFound));
+        wm.verify(exactly(2), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1)));
+        wm.verify(exactly(0), getRequestedFor(urlPathMatching("/movies/v1/movie_infos/[0-9]+")));
+    }
+}
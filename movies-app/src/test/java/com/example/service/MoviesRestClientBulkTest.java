@@ -0,0 +1,121 @@
+package com.example.service;
+
+import com.example.dto.MovieInfo;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.example.constants.MoviesAppConstants.ADD_MOVIES_BULK_V1;
+import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+@WireMockTest
+class MoviesRestClientBulkTest {
+    private MoviesReactiveClient moviesReactiveClient;
+    private MoviesRestClient moviesRestClient;
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig()
+                            .dynamicPort()
+                            .extensions(new ResponseTemplateTransformer(false)))
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        moviesReactiveClient = new MoviesReactiveClient(WebClient.create(baseUrl));
+        moviesRestClient = new MoviesRestClient(moviesReactiveClient);
+    }
+
+    private static Stream<MovieInfo> movies(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MovieInfo(null, "The Matrix " + i, "Keanu Reeves",
+                        LocalDate.of(1999, 3, 24), 1999));
+    }
+
+    @Test
+    void addMoviesFallsBackToSingleRequests() {
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("add-movie.json")));
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1))
+                .withRequestBody(matchingJsonPath("$.name", equalTo("The Matrix 3")))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("400-invalid-input.json")));
+
+        var summary = moviesRestClient.addMovies(movies(150), 4);
+
+        assertEquals(149, summary.createdIds().size());
+        assertEquals(1, summary.failures().size());
+        assertEquals("The Matrix 3", summary.failures().get(0).movieInfo().getName());
+        assertEquals(150, summary.processedCount());
+        assertTrue(summary.moviesPerSecond() > 0);
+        assertTrue(wm.findAll(postRequestedFor(urlPathEqualTo(ADD_MOVIES_BULK_V1))).size() <= 2);
+        wm.verify(exactly(150), postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+    }
+
+    @Test
+    void addMoviesUsesBulkEndpoint() {
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIES_BULK_V1))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        var summary = moviesRestClient.addMovies(movies(250));
+
+        assertEquals(30, summary.createdIds().size());
+        assertTrue(summary.failures().isEmpty());
+        wm.verify(exactly(3), postRequestedFor(urlPathEqualTo(ADD_MOVIES_BULK_V1)));
+        wm.verify(exactly(0), postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+    }
+
+    @Test
+    void addMoviesReportsRejectedBulkChunk() {
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIES_BULK_V1))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("400-invalid-input.json")));
+
+        var summary = moviesRestClient.addMovies(movies(10));
+
+        assertEquals(10, summary.failures().size());
+        wm.verify(exactly(0), postRequestedFor(urlPathEqualTo(ADD_MOVIE_V1)));
+    }
+
+    @Test
+    void addMoviesAppliesBackpressureToSource() {
+        wm.stubFor(post(urlPathEqualTo(ADD_MOVIES_BULK_V1))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        var largestRequest = new AtomicLong();
+        var source = Flux.fromStream(() -> movies(1_000))
+                .doOnRequest(n -> largestRequest.accumulateAndGet(n, Math::max));
+
+        var summary = moviesReactiveClient.addMovies(source, 2).block();
+
+        assertNotNull(summary);
+        assertEquals(10, wm.findAll(postRequestedFor(urlPathEqualTo(ADD_MOVIES_BULK_V1))).size());
+        assertTrue(largestRequest.get() <= 200, "largest request was " + largestRequest.get());
+    }
+}
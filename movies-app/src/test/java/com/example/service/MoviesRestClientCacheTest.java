@@ -0,0 +1,131 @@
+package com.example.service;
+
+import com.example.cache.CaffeineMovieCache;
+import com.example.dto.MovieInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class MoviesRestClientCacheTest {
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesRestClient moviesRestClient(CaffeineMovieCache movieCache) {
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        return new MoviesRestClient(new MoviesReactiveClient(WebClient.create(baseUrl), movieCache));
+    }
+
+    private void stubMovieWithEtag() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBodyFile("movie.json")));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+    }
+
+    @Test
+    void retrieveMovieByIdServedFromCache() {
+        stubMovieWithEtag();
+        var movieCache = new CaffeineMovieCache(100, Duration.ofMinutes(5));
+        var moviesRestClient = moviesRestClient(movieCache);
+
+        var first = moviesRestClient.retrieveMovieById(1);
+        var second = moviesRestClient.retrieveMovieById(1);
+
+        assertEquals(first, second);
+        assertEquals("Batman Begins", second.getName());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/1")));
+        assertEquals(1, movieCache.stats().hitCount());
+        assertEquals(1, movieCache.stats().missCount());
+    }
+
+    @Test
+    void retrieveMovieByIdRevalidatesStaleEntry() {
+        stubMovieWithEtag();
+        var movieCache = new CaffeineMovieCache(100, Duration.ZERO);
+        var moviesRestClient = moviesRestClient(movieCache);
+
+        moviesRestClient.retrieveMovieById(1);
+        var revalidated = moviesRestClient.retrieveMovieById(1);
+
+        assertEquals("Batman Begins", revalidated.getName());
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, movieCache.stats().notModifiedCount());
+    }
+
+    @Test
+    void updateMovieInvalidatesEntry() {
+        stubMovieWithEtag();
+        wm.stubFor(put(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+        var movieCache = new CaffeineMovieCache(100, Duration.ofMinutes(5));
+        var moviesRestClient = moviesRestClient(movieCache);
+
+        moviesRestClient.retrieveMovieById(1);
+        moviesRestClient.updateMovie(1, MovieInfo.builder().cast("ABC").build());
+        moviesRestClient.retrieveMovieById(1);
+
+        assertEquals(2, movieCache.stats().missCount());
+    }
+
+    @Test
+    void deleteMovieByNameInvalidatesEntry() {
+        stubMovieWithEtag();
+        wm.stubFor(delete(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo("Batman Begins"))
+                .willReturn(aResponse().withStatus(200)));
+        var movieCache = new CaffeineMovieCache(100, Duration.ofMinutes(5));
+        var moviesRestClient = moviesRestClient(movieCache);
+
+        moviesRestClient.retrieveMovieById(1);
+        moviesRestClient.deleteMovieByName("Batman Begins");
+        moviesRestClient.retrieveMovieById(1);
+
+        assertEquals(2, movieCache.stats().missCount());
+    }
+
+    @Test
+    void inFlightFetchDoesNotRepopulateInvalidatedEntry() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")
+                        .withFixedDelay(300)));
+        wm.stubFor(put(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+        var movieCache = new CaffeineMovieCache(100, Duration.ofMinutes(5));
+        var baseUrl = String.format("http://localhost:%s", wm.getPort());
+        var moviesReactiveClient = new MoviesReactiveClient(WebClient.create(baseUrl), movieCache);
+
+        var inFlight = moviesReactiveClient.retrieveMovieById(1).toFuture();
+        moviesReactiveClient.updateMovie(1, MovieInfo.builder().cast("ABC").build()).block();
+
+        assertEquals("Batman Begins", inFlight.join().getName());
+        assertTrue(movieCache.get(1L).isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.service;
+
+import com.example.cache.MovieCache;
+import com.example.config.BlockingExecutors;
+import com.example.config.MoviesHttpClientConfig;
+import com.example.config.MoviesWebClients;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+@EnabledIfSystemProperty(named = "loadTests", matches = "true")
+class MoviesRestClientLoadTest {
+    private static final int CALLERS = 10_000;
+
+    private ExecutorService blockingExecutor;
+    private MoviesRestClient moviesRestClient;
+
+    @RegisterExtension
+    private final MoviesWebClients webClients = new MoviesWebClients();
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig()
+                            .dynamicPort()
+                            .containerThreads(100)
+                            .disableRequestJournal())
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(String.format("http://localhost:%s", wm.getPort()))
+                .maxConnections(64)
+                .pendingAcquireMaxCount(CALLERS)
+                .build();
+        blockingExecutor = BlockingExecutors.newBlockingExecutor();
+        moviesRestClient = new MoviesRestClient(new MoviesReactiveClient(webClients.create(config), MovieCache.NONE,
+                config.requestUris()), blockingExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        blockingExecutor.shutdown();
+        blockingExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void tenThousandConcurrentBlockingCallers() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+
+        var calls = IntStream.range(0, CALLERS)
+                .mapToObj(i -> moviesRestClient.submit(client -> client.retrieveMovieById(i % 1000)))
+                .toList();
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(calls.stream().allMatch(call -> "Batman Begins".equals(call.join().getName())));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.service;
+
+import com.example.cache.CaffeineMovieCache;
+import com.example.exception.MovieErrorResponse;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@WireMockTest
+class MoviesRestClientResultTest {
+    private MoviesRestClient moviesRestClient;
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig()
+                            .dynamicPort()
+                            .extensions(new ResponseTemplateTransformer(true)))
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        moviesRestClient = new MoviesRestClient(WebClient.create(baseUrl()));
+    }
+
+    private String baseUrl() {
+        return String.format("http://localhost:%s", wm.getPort());
+    }
+
+    @Test
+    void findMovieById() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+
+        var result = moviesRestClient.findMovieById(1);
+
+        assertInstanceOf(MovieResult.Found.class, result);
+        assertTrue(result.isFound());
+        assertEquals("Batman Begins", result.orElseThrow().getName());
+    }
+
+    @Test
+    void findMovieByIdNotFound() {
+        wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]+"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movie-id.json")));
+
+        var result = moviesRestClient.findMovieById(100);
+
+        assertInstanceOf(MovieResult.NotFound.class, result);
+        assertFalse(result.isFound());
+        assertNull(result.orElse(null));
+        assertThrows(MovieErrorResponse.class, result::orElseThrow);
+    }
+
+    @Test
+    void findMoviesByNameNotFound() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("404-movie-name.json")));
+
+        assertInstanceOf(MovieResult.NotFound.class, moviesRestClient.findMoviesByName("Unknown"));
+    }
+
+    @Test
+    void findMoviesByYear() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_YEAR_QUERY_PARAM_V1))
+                .withQueryParam("year", equalTo("2012"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+
+        assertEquals(4, moviesRestClient.findMoviesByYear(2012).orElseThrow().size());
+    }
+
+    @Test
+    void findMoviesByNameClientError() {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("400-invalid-input.json")));
+
+        var result = moviesRestClient.findMoviesByName("");
+
+        var clientError = assertInstanceOf(MovieResult.ClientError.class, result);
+        assertEquals(400, clientError.status());
+        assertTrue(clientError.body().contains("Please pass all the input fields"));
+    }
+
+    @Test
+    void findMovieByIdServerError() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(serverError().withBody("Server Error")));
+
+        var result = moviesRestClient.findMovieById(1);
+
+        assertEquals(new MovieResult.ServerError<>(500, "Server Error"), result);
+    }
+
+    @Test
+    void findMovieByIdTransportFailureStillThrows() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+        assertThrows(MovieErrorResponse.class, () -> moviesRestClient.findMovieById(1));
+    }
+
+    @Test
+    void findMovieByIdRevalidatesCachedEntry() {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withHeader("ETag", "\"v1\"")
+                        .withBodyFile("movie.json")));
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .withHeader("If-None-Match", equalTo("\"v1\""))
+                .willReturn(aResponse().withStatus(304)));
+        var movieCache = new CaffeineMovieCache(100, Duration.ZERO);
+        var cachingClient = new MoviesRestClient(new MoviesReactiveClient(WebClient.create(baseUrl()), movieCache));
+
+        var first = cachingClient.findMovieById(1);
+        var second = cachingClient.findMovieById(1);
+
+        assertEquals(first, second);
+        wm.verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
+}
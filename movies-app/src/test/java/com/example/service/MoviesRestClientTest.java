@@ -13,6 +13,10 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
 import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
@@ -63,6 +67,44 @@ class MoviesRestClientTest {
         assertTrue(movies.size() > 0);
     }
 
+    @Test
+    void streamAllMovies() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .withHeader("Accept", containing("application/x-ndjson"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/x-ndjson")
+                        .withBodyFile("all-movies.ndjson")));
+
+        try (var movies = moviesRestClient.streamAllMovies()) {
+            assertEquals(10, movies.count());
+        }
+    }
+
+    @Test
+    void streamAllMoviesFromJsonArray() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        try (var movies = moviesRestClient.streamAllMovies(2)) {
+            var names = movies.limit(3).map(MovieInfo::getName).toList();
+            assertEquals(List.of("Batman Begins", "Dark Knight", "The Dark Knight Rises"), names);
+        }
+    }
+
+    @Test
+    void streamAllMoviesServerError() {
+        wm.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(serverError()));
+
+        try (var movies = moviesRestClient.streamAllMovies()) {
+            assertThrows(MovieErrorResponse.class, movies::count);
+        }
+    }
+
     @Test
     void retrieveMovieById() {
         wm.stubFor(get(urlPathMatching("/movies/v1/movie_infos/[0-9]")).willReturn(aResponse()
@@ -379,4 +421,27 @@ class MoviesRestClientTest {
         wm.verify(exactly(1), deleteRequestedFor(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
                 .withQueryParam("movie_name", equalTo(addedMovie.getName())));
     }
+
+    @Test
+    void runsOnlySubmittedCallsOnTheBlockingExecutor() throws InterruptedException {
+        wm.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/1"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("movie.json")));
+        var pool = Executors.newFixedThreadPool(1);
+        var submitted = new AtomicInteger();
+        var client = new MoviesRestClient(new MoviesReactiveClient(WebClient.create(wm.baseUrl())), task -> {
+            submitted.incrementAndGet();
+            pool.execute(task);
+        });
+
+        assertEquals("Batman Begins", client.retrieveMovieById(1).getName());
+        assertEquals(0, submitted.get());
+        assertEquals("Batman Begins", client.submit(c -> c.retrieveMovieById(1)).join().getName());
+        assertEquals(1, submitted.get());
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
 }
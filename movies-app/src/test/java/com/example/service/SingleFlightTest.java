@@ -0,0 +1,92 @@
+package com.example.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneRequest() {
+        var subscriptions = new AtomicInteger();
+        var sink = Sinks.<String>one();
+        var request = sink.asMono().doOnSubscribe(s -> subscriptions.incrementAndGet());
+
+        var first = singleFlight.execute("key", () -> request).toFuture();
+        var second = singleFlight.execute("key", () -> request).toFuture();
+        assertEquals(1, singleFlight.inFlightCount());
+
+        sink.tryEmitValue("value");
+
+        assertEquals("value", first.join());
+        assertEquals("value", second.join());
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void completedRequestIsNotReused() {
+        var subscriptions = new AtomicInteger();
+
+        singleFlight.execute("key", () -> Mono.fromCallable(subscriptions::incrementAndGet).map(String::valueOf)).block();
+        var second = singleFlight.execute("key", () -> Mono.fromCallable(subscriptions::incrementAndGet).map(String::valueOf)).block();
+
+        assertEquals("2", second);
+    }
+
+    @Test
+    void waitersShareTheSameError() {
+        var sink = Sinks.<String>one();
+
+        var first = singleFlight.execute("key", sink::asMono).toFuture();
+        var second = singleFlight.execute("key", sink::asMono).toFuture();
+        var error = new IllegalStateException("boom");
+        sink.tryEmitError(error);
+
+        assertSame(error, assertThrows(Exception.class, first::join).getCause());
+        assertSame(error, assertThrows(Exception.class, second::join).getCause());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void cancelledRequestIsNotJoinedByLaterCallers() {
+        var subscriptions = new AtomicInteger();
+        var cancellations = new AtomicInteger();
+        var hung = Sinks.<String>one();
+
+        singleFlight.execute("key", () -> hung.asMono()
+                        .doOnSubscribe(s -> subscriptions.incrementAndGet())
+                        .doOnCancel(cancellations::incrementAndGet))
+                .subscribe()
+                .dispose();
+        var second = singleFlight.execute("key", () -> Mono.fromCallable(subscriptions::incrementAndGet)
+                .map(String::valueOf)).block(Duration.ofSeconds(5));
+
+        assertEquals(1, cancellations.get());
+        assertEquals("2", second);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void lateTerminationDoesNotEvictANewerRequest() {
+        var first = Sinks.<String>one();
+        var second = Sinks.<String>one();
+
+        var firstCall = singleFlight.execute("key", first::asMono).subscribe();
+        firstCall.dispose();
+        var secondCall = singleFlight.execute("key", second::asMono).toFuture();
+        first.tryEmitValue("stale");
+        var thirdCall = singleFlight.execute("key", () -> Mono.just("fresh")).toFuture();
+
+        assertEquals(1, singleFlight.inFlightCount());
+        second.tryEmitValue("value");
+        assertEquals("value", secondCall.join());
+        assertEquals("value", thirdCall.join());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.uri;
+
+import com.example.cache.MovieCache;
+import com.example.dto.MovieField;
+import com.example.service.MoviesReactiveClient;
+import com.example.service.MoviesRestClient;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Set;
+
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@WireMockTest
+class MovieRequestUrisTest {
+    private static final String AWKWARD_NAME = "Fast & Furious+ {x} 100% Am\u00e9lie";
+
+    @RegisterExtension
+    private final WireMockExtension wm =
+            WireMockExtension.newInstance().options(wireMockConfig().dynamicPort()).build();
+
+    private MoviesReactiveClient moviesReactiveClient(boolean absolute) {
+        var baseUrl = String.format("http://localhost:%s/", wm.getPort());
+        var requestUris = absolute ? MovieRequestUris.absolute(baseUrl) : MovieRequestUris.relative();
+        return new MoviesReactiveClient(WebClient.create(baseUrl), MovieCache.NONE, requestUris);
+    }
+
+    private MoviesRestClient moviesRestClient(boolean absolute) {
+        return new MoviesRestClient(moviesReactiveClient(absolute));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void retrieveMoviesByNameEncodesQueryValue(boolean absolute) {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo(AWKWARD_NAME))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+
+        var movies = moviesRestClient(absolute).retrieveMoviesByName(AWKWARD_NAME);
+
+        assertEquals(4, movies.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void retrieveMoviesByYear(boolean absolute) {
+        wm.stubFor(get(urlPathEqualTo(MOVIE_BY_YEAR_QUERY_PARAM_V1))
+                .withQueryParam("year", equalTo("2012"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+
+        var movies = moviesRestClient(absolute).retrieveMoviesByYear(2012);
+
+        assertEquals(4, movies.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void deleteMovieByNameEncodesQueryValue(boolean absolute) {
+        wm.stubFor(delete(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo(AWKWARD_NAME))
+                .willReturn(ok()));
+
+        assertEquals("Movie Deleted Successfully", moviesRestClient(absolute).deleteMovieByName(AWKWARD_NAME));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void retrieveMoviesPageBuildsCursorQuery(boolean absolute) {
+        wm.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1 + "?after=3&limit=2&fields=movieInfoId,name"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+        wm.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1 + "?limit=2"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[]")));
+
+        var client = moviesReactiveClient(absolute);
+
+        assertEquals(4, client.retrieveMoviesPage(3L, 2, Set.of(MovieField.NAME)).block().size());
+        assertEquals(0, client.retrieveMoviesPage(null, 2).block().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void retrieveAllMoviesWithFields(boolean absolute) {
+        wm.stubFor(get(urlEqualTo(GET_ALL_MOVIES_V1 + "?fields=name,year"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+
+        var movies = moviesReactiveClient(absolute)
+                .retrieveAllMovies(Set.of(MovieField.YEAR, MovieField.NAME))
+                .collectList()
+                .block();
+
+        assertEquals(4, movies.size());
+    }
+}
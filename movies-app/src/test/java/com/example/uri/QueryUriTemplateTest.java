@@ -0,0 +1,44 @@
+package com.example.uri;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.util.UriUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryUriTemplateTest {
+    private final QueryUriTemplate template =
+            new QueryUriTemplate("http://localhost:8080/", "/movies/v1/movie_infos/movieName", "movie_name");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Avengers", "The Matrix", "Fast & Furious+", "{x}%20", "Am\u00e9lie",
+            "\u5343\u3068\u5343\u5c0b\u306e\u795e\u96a0\u3057",
+            "\uD83C\uDFAC Movie", "a=b;c/d?e#f", ""})
+    void encodesLikeSpringStrictEncoding(String movieName) {
+        var expected = "http://localhost:8080/movies/v1/movie_infos/movieName?movie_name="
+                + UriUtils.encode(movieName, StandardCharsets.UTF_8);
+
+        assertEquals(URI.create(expected), template.expand(movieName));
+    }
+
+    @Test
+    void decodesBackToTheOriginalValue() {
+        var movieName = "L\u00e9on: The Professional {1994} 100% + more";
+
+        var uri = template.expand(movieName);
+
+        assertEquals("movie_name=" + movieName, uri.getQuery());
+    }
+
+    @Test
+    void expandsIntegersWithoutEncoding() {
+        var yearTemplate = new QueryUriTemplate("http://localhost:8080", "/movies/v1/movie_infos/movieYear", "year");
+
+        assertEquals(URI.create("http://localhost:8080/movies/v1/movie_infos/movieYear?year=2012"),
+                yearTemplate.expand(2012));
+    }
+}
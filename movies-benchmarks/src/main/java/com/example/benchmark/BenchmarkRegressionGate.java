@@ -0,0 +1,90 @@
+package com.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BenchmarkRegressionGate {
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkRegressionGate() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkRegressionGate <baseline.json> <current.json> [tolerancePercent]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT;
+        var objectMapper = new ObjectMapper();
+        var regressions = compare(objectMapper.readTree(Path.of(args[0]).toFile()),
+                objectMapper.readTree(Path.of(args[1]).toFile()), tolerance);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+        System.out.println("No regressions beyond " + tolerance + "%");
+    }
+
+    static List<String> compare(JsonNode baseline, JsonNode current, double tolerance) {
+        var regressions = new ArrayList<String>();
+        var currentResults = index(current);
+        index(baseline).forEach((key, baselineResult) -> {
+            var currentResult = currentResults.get(key);
+            if (currentResult == null) {
+                return;
+            }
+            boolean higherIsBetter = "thrpt".equals(baselineResult.path("mode").asText());
+            check(regressions, key, baselineResult.path("primaryMetric"), currentResult.path("primaryMetric"),
+                    higherIsBetter, tolerance);
+            check(regressions, key + " alloc", allocation(baselineResult), allocation(currentResult),
+                    false, tolerance);
+        });
+        return regressions;
+    }
+
+    private static void check(List<String> regressions, String name, JsonNode baseline, JsonNode current,
+                              boolean higherIsBetter, double tolerance) {
+        if (baseline.isMissingNode() || current.isMissingNode()) {
+            return;
+        }
+        double before = baseline.path("score").asDouble();
+        double after = current.path("score").asDouble();
+        if (before == 0) {
+            return;
+        }
+        double change = (after - before) / before * 100;
+        if (higherIsBetter ? change < -tolerance : change > tolerance) {
+            regressions.add(String.format("%s regressed %.1f%%: %.3f -> %.3f %s",
+                    name, Math.abs(change), before, after, current.path("scoreUnit").asText()));
+        }
+    }
+
+    private static JsonNode allocation(JsonNode result) {
+        var secondaryMetrics = result.path("secondaryMetrics");
+        var names = secondaryMetrics.fieldNames();
+        while (names.hasNext()) {
+            var name = names.next();
+            if (name.endsWith(ALLOCATION_METRIC)) {
+                return secondaryMetrics.get(name);
+            }
+        }
+        return secondaryMetrics.path(ALLOCATION_METRIC);
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        var indexed = new LinkedHashMap<String, JsonNode>();
+        for (var result : results) {
+            indexed.put(result.path("benchmark").asText() + result.path("params"), result);
+        }
+        return indexed;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.benchmark;
+
+import com.example.cache.MovieCache;
+import com.example.config.BlockingExecutors;
+import com.example.config.MoviesHttpClientConfig;
+import com.example.dto.MovieInfo;
+import com.example.service.MoviesReactiveClient;
+import com.example.service.MoviesRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class BlockingCallersBenchmark {
+    @Param({"1000", "10000"})
+    private int callers;
+
+    // caller runs the batch one call at a time on the benchmark thread; blocking gives each call its own task
+    @Param({"caller", "blocking"})
+    private String executor;
+
+    private final MoviesServiceStub moviesServiceStub = new MoviesServiceStub();
+    private ConnectionProvider connectionProvider;
+    private ExecutorService blockingExecutor;
+    private MoviesRestClient moviesRestClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(moviesServiceStub.start())
+                .maxConnections(64)
+                .pendingAcquireMaxCount(callers)
+                .build();
+        connectionProvider = config.connectionProvider();
+        var moviesReactiveClient = new MoviesReactiveClient(config.webClient(connectionProvider),
+                MovieCache.NONE, config.requestUris());
+        if ("blocking".equals(executor)) {
+            blockingExecutor = BlockingExecutors.newBlockingExecutor();
+            moviesRestClient = new MoviesRestClient(moviesReactiveClient, blockingExecutor);
+        } else {
+            moviesRestClient = new MoviesRestClient(moviesReactiveClient);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        if (blockingExecutor != null) {
+            blockingExecutor.shutdown();
+            blockingExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        connectionProvider.dispose();
+        moviesServiceStub.stop();
+    }
+
+    @Benchmark
+    public int retrieveMovieById() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<MovieInfo>[] calls = new CompletableFuture[callers];
+        for (int i = 0; i < callers; i++) {
+            var movieId = 1 + i % 1000;
+            calls[i] = moviesRestClient.submit(client -> client.retrieveMovieById(movieId));
+        }
+        CompletableFuture.allOf(calls).join();
+        return calls.length;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.benchmark;
+
+import com.example.catalog.CompactMovieCatalog;
+import org.openjdk.jol.info.GraphLayout;
+
+public class CatalogFootprintReport {
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    public static void main(String[] args) {
+        System.out.printf("%10s %16s %16s %8s%n", "movies", "List<MovieInfo>", "compact", "ratio");
+        for (int size : SIZES) {
+            var movieInfos = CompactMovieCatalogBenchmark.decodedMovies(size);
+            var listBytes = GraphLayout.parseInstance(movieInfos).totalSize();
+            var compactBytes = GraphLayout.parseInstance(CompactMovieCatalog.of(movieInfos)).totalSize();
+            System.out.printf("%10d %16d %16d %7.1fx%n", size, listBytes, compactBytes,
+                    (double) listBytes / compactBytes);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.benchmark;
+
+import com.example.catalog.MovieCatalogSnapshot;
+import com.example.codec.MovieJson;
+import com.example.dto.MovieInfo;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogWarmStartBenchmark {
+    private static final ResolvableType MOVIE_INFO_TYPE = ResolvableType.forClass(MovieInfo.class);
+
+    @Param({"10000", "100000"})
+    private int movies;
+
+    private Path snapshotFile;
+    private byte[] payload;
+    private Jackson2JsonDecoder decoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        var movieInfos = new ArrayList<MovieInfo>(movies);
+        for (int i = 0; i < movies; i++) {
+            movieInfos.add(new MovieInfo((long) i + 1, "Movie " + i, "Christian Bale, Katie Holmes , Liam Neeson",
+                    LocalDate.of(1990 + i % 30, 1 + i % 12, 1 + i % 28), 1990 + i % 30));
+        }
+        var objectMapper = MovieJson.objectMapper();
+        decoder = new Jackson2JsonDecoder(objectMapper);
+        payload = objectMapper.copy()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsBytes(movieInfos);
+        snapshotFile = Files.createTempFile("movie-catalog", ".bin");
+        MovieCatalogSnapshot.write(snapshotFile, movieInfos);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public List<Object> decodeJsonCatalog() {
+        return decoder.decode(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(payload)),
+                        MOVIE_INFO_TYPE, MediaType.APPLICATION_JSON, Map.of())
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public MovieInfo openSnapshot() throws IOException {
+        var snapshot = MovieCatalogSnapshot.open(snapshotFile);
+        return snapshot.findById(snapshot.size() / 2).orElseThrow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.benchmark;
+
+import com.example.catalog.CompactMovieCatalog;
+import com.example.dto.MovieInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactMovieCatalogBenchmark {
+    private static final int ACTORS = 5000;
+    private static final int TITLES = 20000;
+
+    @Param({"10000", "100000"})
+    private int movies;
+
+    private List<MovieInfo> movieInfos;
+    private CompactMovieCatalog compactCatalog;
+
+    @Setup
+    public void setUp() {
+        movieInfos = decodedMovies(movies);
+        compactCatalog = CompactMovieCatalog.of(movieInfos);
+    }
+
+    @Benchmark
+    public CompactMovieCatalog buildCompactCatalog() {
+        return CompactMovieCatalog.of(movieInfos);
+    }
+
+    @Benchmark
+    public long scanMovieList() {
+        long sum = 0;
+        for (var movieInfo : movieInfos) {
+            sum += movieInfo.getYear();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanCompactCatalog() {
+        long sum = 0;
+        for (int i = 0; i < compactCatalog.size(); i++) {
+            sum += compactCatalog.get(i).getYear();
+        }
+        return sum;
+    }
+
+    // Every record gets its own String instances, the way the JSON decoder hands them out.
+    static List<MovieInfo> decodedMovies(int count) {
+        var random = new SplittableRandom(42);
+        var movieInfos = new ArrayList<MovieInfo>(count);
+        for (int i = 0; i < count; i++) {
+            var cast = new StringJoiner(", ");
+            for (int member = 3 + random.nextInt(3); member > 0; member--) {
+                cast.add("Actor " + random.nextInt(ACTORS));
+            }
+            var year = 1950 + random.nextInt(75);
+            movieInfos.add(new MovieInfo((long) i + 1, "Movie " + random.nextInt(TITLES), cast.toString(),
+                    LocalDate.ofYearDay(year, 1 + random.nextInt(365)), year));
+        }
+        return movieInfos;
+    }
+}
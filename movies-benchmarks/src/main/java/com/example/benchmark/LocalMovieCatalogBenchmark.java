@@ -0,0 +1,75 @@
+package com.example.benchmark;
+
+import com.example.catalog.LocalMovieCatalog;
+import com.example.config.MoviesHttpClientConfig;
+import com.example.dto.MovieInfo;
+import com.example.service.MovieResult;
+import com.example.service.MoviesRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class LocalMovieCatalogBenchmark {
+    private final MoviesServiceStub moviesServiceStub = new MoviesServiceStub();
+    private ConnectionProvider connectionProvider;
+    private MoviesRestClient moviesRestClient;
+    private LocalMovieCatalog localMovieCatalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(moviesServiceStub.start())
+                .build();
+        connectionProvider = config.connectionProvider();
+        moviesRestClient = new MoviesRestClient(config.webClient(connectionProvider));
+        localMovieCatalog = new LocalMovieCatalog(moviesRestClient, Duration.ofHours(1));
+        localMovieCatalog.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        localMovieCatalog.close();
+        connectionProvider.dispose();
+        moviesServiceStub.stop();
+    }
+
+    @Benchmark
+    public List<MovieInfo> remoteByName() {
+        return moviesRestClient.retrieveMoviesByName("The Avengers");
+    }
+
+    @Benchmark
+    public MovieResult<List<MovieInfo>> localByName() {
+        return localMovieCatalog.findMoviesByName("The Avengers");
+    }
+
+    @Benchmark
+    public List<MovieInfo> remoteByYear() {
+        return moviesRestClient.retrieveMoviesByYear(2012);
+    }
+
+    @Benchmark
+    public MovieResult<List<MovieInfo>> localByYear() {
+        return localMovieCatalog.findMoviesByYear(2012);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.benchmark;
+
+import com.example.codec.MovieJson;
+import com.example.dto.MovieInfo;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MovieInfoCodecBenchmark {
+    private static final ResolvableType MOVIE_INFO_TYPE = ResolvableType.forClass(MovieInfo.class);
+
+    @Param({"1000", "100000"})
+    private int movies;
+
+    private byte[] payload;
+    private Jackson2JsonDecoder defaultDecoder;
+    private Jackson2JsonDecoder optimizedDecoder;
+
+    @Setup
+    public void setUp() throws Exception {
+        var defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        defaultDecoder = new Jackson2JsonDecoder(defaultMapper);
+        optimizedDecoder = new Jackson2JsonDecoder(MovieJson.objectMapper());
+
+        var movieInfos = new MovieInfo[movies];
+        for (int i = 0; i < movies; i++) {
+            movieInfos[i] = new MovieInfo((long) i + 1, "Movie " + i, "Christian Bale, Katie Holmes , Liam Neeson",
+                    LocalDate.of(1990 + i % 30, 1 + i % 12, 1 + i % 28), 1990 + i % 30);
+        }
+        payload = defaultMapper.copy()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(movieInfos)
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Object> defaultCodec() {
+        return decode(defaultDecoder);
+    }
+
+    @Benchmark
+    public List<Object> optimizedCodec() {
+        return decode(optimizedDecoder);
+    }
+
+    private List<Object> decode(Jackson2JsonDecoder decoder) {
+        return decoder.decode(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(payload)),
+                        MOVIE_INFO_TYPE, MediaType.APPLICATION_JSON, Map.of())
+                .collectList()
+                .block();
+    }
+}
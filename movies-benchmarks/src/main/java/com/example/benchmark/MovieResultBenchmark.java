@@ -0,0 +1,75 @@
+package com.example.benchmark;
+
+import com.example.config.MoviesHttpClientConfig;
+import com.example.dto.MovieInfo;
+import com.example.exception.MovieErrorResponse;
+import com.example.service.MovieResult;
+import com.example.service.MoviesRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.example.benchmark.MoviesServiceStub.MISSING_MOVIE_ID;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=off")
+public class MovieResultBenchmark {
+    private final MoviesServiceStub moviesServiceStub = new MoviesServiceStub();
+    private ConnectionProvider connectionProvider;
+    private MoviesRestClient moviesRestClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(moviesServiceStub.start())
+                .build();
+        connectionProvider = config.connectionProvider();
+        moviesRestClient = new MoviesRestClient(config.webClient(connectionProvider));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.dispose();
+        moviesServiceStub.stop();
+    }
+
+    @Benchmark
+    public Object missWithException() {
+        try {
+            return moviesRestClient.retrieveMovieById(MISSING_MOVIE_ID);
+        } catch (MovieErrorResponse e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public MovieResult<MovieInfo> missWithResult() {
+        return moviesRestClient.findMovieById(MISSING_MOVIE_ID);
+    }
+
+    @Benchmark
+    public MovieInfo hitWithException() {
+        return moviesRestClient.retrieveMovieById(1);
+    }
+
+    @Benchmark
+    public MovieResult<MovieInfo> hitWithResult() {
+        return moviesRestClient.findMovieById(1);
+    }
+}
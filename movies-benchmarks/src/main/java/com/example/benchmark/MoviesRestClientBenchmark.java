@@ -0,0 +1,112 @@
+package com.example.benchmark;
+
+import com.example.cache.MovieCache;
+import com.example.config.MoviesHttpClientConfig;
+import com.example.dto.MovieInfo;
+import com.example.service.BulkAddSummary;
+import com.example.service.MovieLookup;
+import com.example.service.MoviesReactiveClient;
+import com.example.service.MoviesRestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public abstract class MoviesRestClientBenchmark {
+    private static final MovieInfo MOVIE = new MovieInfo(null, "The Matrix", "Keanu Reeves",
+            LocalDate.of(1999, 3, 24), 1999);
+    private static final List<Long> MOVIE_IDS = LongStream.rangeClosed(1, 10).boxed().collect(Collectors.toList());
+
+    private final MoviesServiceStub moviesServiceStub = new MoviesServiceStub();
+    private ConnectionProvider connectionProvider;
+    private MoviesRestClient moviesRestClient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var config = MoviesHttpClientConfig.builder()
+                .baseUrl(moviesServiceStub.start())
+                .build();
+        connectionProvider = config.connectionProvider();
+        moviesRestClient = new MoviesRestClient(new MoviesReactiveClient(config.webClient(connectionProvider),
+                MovieCache.NONE, config.requestUris()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionProvider.dispose();
+        moviesServiceStub.stop();
+    }
+
+    @Benchmark
+    public List<MovieInfo> retrieveAllMovies() {
+        return moviesRestClient.retrieveAllMovies();
+    }
+
+    @Benchmark
+    public long streamAllMovies() {
+        try (Stream<MovieInfo> movies = moviesRestClient.streamAllMovies()) {
+            return movies.count();
+        }
+    }
+
+    @Benchmark
+    public MovieInfo retrieveMovieById() {
+        return moviesRestClient.retrieveMovieById(1);
+    }
+
+    @Benchmark
+    public List<MovieLookup> retrieveMoviesByIds() {
+        return moviesRestClient.retrieveMoviesByIds(MOVIE_IDS);
+    }
+
+    @Benchmark
+    public List<MovieInfo> retrieveMoviesByName() {
+        return moviesRestClient.retrieveMoviesByName("Avengers");
+    }
+
+    @Benchmark
+    public List<MovieInfo> retrieveMoviesByYear() {
+        return moviesRestClient.retrieveMoviesByYear(2012);
+    }
+
+    @Benchmark
+    public MovieInfo addMovie() {
+        return moviesRestClient.addMovie(MOVIE);
+    }
+
+    @Benchmark
+    public BulkAddSummary addMovies() {
+        return moviesRestClient.addMovies(Stream.generate(() -> MOVIE).limit(10));
+    }
+
+    @Benchmark
+    public MovieInfo updateMovie() {
+        return moviesRestClient.updateMovie(1, MOVIE);
+    }
+
+    @Benchmark
+    public String deleteMovie() {
+        return moviesRestClient.deleteMovie(1L);
+    }
+
+    @Benchmark
+    public String deleteMovieByName() {
+        return moviesRestClient.deleteMovieByName("The Matrix");
+    }
+}
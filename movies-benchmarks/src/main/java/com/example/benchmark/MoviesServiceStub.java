@@ -0,0 +1,58 @@
+package com.example.benchmark;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import static com.example.constants.MoviesAppConstants.ADD_MOVIES_BULK_V1;
+import static com.example.constants.MoviesAppConstants.ADD_MOVIE_V1;
+import static com.example.constants.MoviesAppConstants.GET_ALL_MOVIES_V1;
+import static com.example.constants.MoviesAppConstants.MOVIES_BY_IDS_QUERY_PARAM_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1;
+import static com.example.constants.MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+public class MoviesServiceStub {
+    private static final String MOVIE_BY_ID_PATTERN = "/movies/v1/movie_infos/[0-9]+";
+    public static final int MISSING_MOVIE_ID = 0;
+
+    private final WireMockServer server = new WireMockServer(wireMockConfig()
+            .dynamicPort()
+            .usingFilesUnderClasspath("wiremock")
+            .disableRequestJournal()
+            .containerThreads(32)
+            .asynchronousResponseEnabled(true));
+
+    public String start() {
+        server.start();
+        server.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1))
+                .withHeader("Accept", containing("ndjson"))
+                .atPriority(1)
+                .willReturn(json("all-movies.ndjson").withHeader("Content-Type", "application/x-ndjson")));
+        server.stubFor(get(urlPathEqualTo(GET_ALL_MOVIES_V1)).willReturn(json("all-movies.json")));
+        server.stubFor(get(urlPathMatching(MOVIE_BY_ID_PATTERN)).willReturn(json("movie.json")));
+        server.stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/" + MISSING_MOVIE_ID))
+                .atPriority(1)
+                .willReturn(json("404-movie-id.json").withStatus(404)));
+        server.stubFor(get(urlPathEqualTo(MOVIES_BY_IDS_QUERY_PARAM_V1)).willReturn(json("all-movies.json")));
+        server.stubFor(get(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1)).willReturn(json("avengers.json")));
+        server.stubFor(get(urlPathEqualTo(MOVIE_BY_YEAR_QUERY_PARAM_V1)).willReturn(json("avengers.json")));
+        server.stubFor(post(urlPathEqualTo(ADD_MOVIE_V1)).willReturn(json("add-movie.json")));
+        server.stubFor(post(urlPathEqualTo(ADD_MOVIES_BULK_V1)).willReturn(json("all-movies.json")));
+        server.stubFor(put(urlPathMatching(MOVIE_BY_ID_PATTERN)).willReturn(json("movie.json")));
+        server.stubFor(delete(urlPathMatching(MOVIE_BY_ID_PATTERN)).willReturn(ok("Movie Deleted Successfully")));
+        server.stubFor(delete(urlPathEqualTo(MOVIE_BY_NAME_QUERY_PARAM_V1)).willReturn(ok()));
+        return server.baseUrl();
+    }
+
+    public void stop() {
+        server.stop();
+    }
+
+    private static ResponseDefinitionBuilder json(String bodyFile) {
+        return aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBodyFile(bodyFile);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.benchmark;
+
+import com.example.codec.MovieJson;
+import com.example.dto.MovieInfo;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SparseFieldsetBenchmark {
+    private static final ResolvableType MOVIE_INFO_TYPE = ResolvableType.forClass(MovieInfo.class);
+
+    @Param({"1000", "100000"})
+    private int movies;
+
+    private byte[] fullPayload;
+    private byte[] sparsePayload;
+    private Jackson2JsonDecoder decoder;
+
+    @Setup
+    public void setUp() throws Exception {
+        var objectMapper = MovieJson.objectMapper();
+        decoder = new Jackson2JsonDecoder(objectMapper);
+
+        var movieInfos = new ArrayList<MovieInfo>(movies);
+        var sparseMovieInfos = new ArrayList<Map<String, Object>>(movies);
+        for (int i = 0; i < movies; i++) {
+            var movieInfo = new MovieInfo((long) i + 1, "Movie " + i, "Christian Bale, Katie Holmes , Liam Neeson",
+                    LocalDate.of(1990 + i % 30, 1 + i % 12, 1 + i % 28), 1990 + i % 30);
+            movieInfos.add(movieInfo);
+            var sparse = new LinkedHashMap<String, Object>();
+            sparse.put("movieInfoId", movieInfo.getMovieInfoId());
+            sparse.put("name", movieInfo.getName());
+            sparseMovieInfos.add(sparse);
+        }
+        var writer = objectMapper.copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        fullPayload = writer.writeValueAsBytes(movieInfos);
+        sparsePayload = writer.writeValueAsBytes(sparseMovieInfos);
+        System.out.printf("%n%d movies: full payload %d bytes, movieInfoId,name payload %d bytes%n",
+                movies, fullPayload.length, sparsePayload.length);
+    }
+
+    @Benchmark
+    public List<Object> decodeAllFields() {
+        return decode(fullPayload);
+    }
+
+    @Benchmark
+    public List<Object> decodeIdAndName() {
+        return decode(sparsePayload);
+    }
+
+    private List<Object> decode(byte[] payload) {
+        return decoder.decode(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(payload)),
+                        MOVIE_INFO_TYPE, MediaType.APPLICATION_JSON, Map.of())
+                .collectList()
+                .block();
+    }
+}
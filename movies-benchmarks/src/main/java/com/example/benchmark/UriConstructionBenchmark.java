@@ -0,0 +1,57 @@
+package com.example.benchmark;
+
+import com.example.constants.MoviesAppConstants;
+import com.example.uri.QueryUriTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriConstructionBenchmark {
+    private static final String BASE_URL = "http://localhost:8080";
+    private static final String MOVIE_BY_NAME_TEMPLATE = MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1
+            + "?movie_name={movieName}";
+
+    @Param({"Avengers", "The Dark Knight Rises"})
+    private String movieName;
+
+    private final DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(BASE_URL);
+    private final QueryUriTemplate moviesByName =
+            new QueryUriTemplate(BASE_URL, MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1, "movie_name");
+
+    @Benchmark
+    public URI uriComponentsBuilder() {
+        var uri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)
+                .queryParam("movie_name", movieName)
+                .buildAndExpand()
+                .toUriString();
+        return uriBuilderFactory.expand(uri);
+    }
+
+    @Benchmark
+    public URI uriTemplateVariables() {
+        return uriBuilderFactory.expand(MOVIE_BY_NAME_TEMPLATE, movieName);
+    }
+
+    @Benchmark
+    public URI precompiledTemplate() {
+        return moviesByName.expand(movieName);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BenchmarkRegressionGateTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static JsonNode results(String mode, double score, double allocation) throws IOException {
+        return OBJECT_MAPPER.readTree(String.format("""
+                [{"benchmark": "com.example.benchmark.MovieBenchmark.decode",
+                  "mode": "%s",
+                  "params": {"movies": "1000"},
+                  "primaryMetric": {"score": %s, "scoreUnit": "us/op"},
+                  "secondaryMetrics": {"\\u00b7gc.alloc.rate.norm": {"score": %s, "scoreUnit": "B/op"}}}]
+                """, mode, score, allocation));
+    }
+
+    @Test
+    void passesWithinTolerance() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("avgt", 100, 1000),
+                results("avgt", 109, 1090), 10);
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+    }
+
+    @Test
+    void flagsSlowerAverageTime() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("avgt", 100, 1000),
+                results("avgt", 120, 1000), 10);
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("regressed 20.0%"), regressions.get(0));
+    }
+
+    @Test
+    void flagsLowerThroughput() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("thrpt", 100, 1000),
+                results("thrpt", 80, 1000), 10);
+
+        assertEquals(1, regressions.size());
+    }
+
+    @Test
+    void higherThroughputIsNotARegression() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("thrpt", 100, 1000),
+                results("thrpt", 150, 1000), 10);
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+    }
+
+    @Test
+    void flagsAllocationGrowth() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("avgt", 100, 1000),
+                results("avgt", 100, 2000), 10);
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains(" alloc regressed"), regressions.get(0));
+    }
+
+    @Test
+    void ignoresBenchmarksMissingFromTheCurrentRun() throws IOException {
+        var regressions = BenchmarkRegressionGate.compare(results("avgt", 100, 1000),
+                OBJECT_MAPPER.readTree("[]"), 10);
+
+        assertTrue(regressions.isEmpty(), regressions.toString());
+    }
+}
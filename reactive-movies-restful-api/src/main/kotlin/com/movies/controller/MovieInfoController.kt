@@ -1,6 +1,7 @@
 package com.movies.controller
 
 import com.movies.domain.MovieInfo
+import com.movies.domain.MovieInfoField
 import com.movies.service.MovieInfoService
 import mu.KLogging
 import org.springframework.http.HttpStatus
@@ -14,22 +15,56 @@ import javax.validation.Valid
 @RequestMapping("/v1")
 class MovieInfoController(val movieInfoService: MovieInfoService) {
 
-    companion object : KLogging()
+    companion object : KLogging() {
+        const val DEFAULT_PAGE_SIZE = 100
+        const val MAX_PAGE_SIZE = 1000
+    }
 
     @GetMapping("/movie_infos/{id}")
-    fun movieInfoById(@PathVariable("id") movieInfoId: Long): Mono<MovieInfo> {
-        return movieInfoService.getMovieById(movieInfoId)
+    fun movieInfoById(
+        @PathVariable("id") movieInfoId: Long,
+        @RequestParam("fields", required = false) fields: String?
+    ): Mono<Any> {
+        val movieInfoFields = MovieInfoField.parse(fields)
+        return movieInfoService.getMovieById(movieInfoId, movieInfoFields)
             .doOnNext {
                 logger.info { "Movie is $it" }
             }
+            .map { it.select(movieInfoFields) }
+    }
+
+    @GetMapping("/movie_infos/batch")
+    fun movieInfosByIds(
+        @RequestParam("ids") movieInfoIds: List<Long>,
+        @RequestParam("fields", required = false) fields: String?
+    ): Flux<Any> {
+        val movieInfoFields = MovieInfoField.parse(fields)
+        return movieInfoService.getMoviesByIds(movieInfoIds, movieInfoFields)
+            .map { it.select(movieInfoFields) }
     }
 
     @GetMapping("/movie_infos")
-    fun movieInfos(): Flux<MovieInfo> {
-        return movieInfoService.getAllMovies()
+    fun movieInfos(
+        @RequestParam("after", required = false) afterMovieInfoId: Long?,
+        @RequestParam("limit", required = false) limit: Int?,
+        @RequestParam("fields", required = false) fields: String?
+    ): Flux<Any> {
+        val movieInfoFields = MovieInfoField.parse(fields)
+        val movieInfos = if (afterMovieInfoId == null && limit == null) movieInfoService.getAllMovies(movieInfoFields)
+        else movieInfoService.getMoviesPage(
+            afterMovieInfoId,
+            (limit ?: DEFAULT_PAGE_SIZE).coerceIn(1, MAX_PAGE_SIZE),
+            movieInfoFields
+        )
+        return movieInfos
             .doOnNext {
                 logger.info { "Movie is $it" }
             }
+            .map { it.select(movieInfoFields) }
+    }
+
+    private fun MovieInfo.select(fields: Set<MovieInfoField>): Any {
+        return if (fields == MovieInfoField.ALL) this else MovieInfoField.project(this, fields)
     }
 
     @PostMapping("/movie_infos")
@@ -39,6 +74,12 @@ class MovieInfoController(val movieInfoService: MovieInfoService) {
         return movieInfoService.saveMovieInfo(movieInfo)
     }
 
+    @PostMapping("/movie_infos/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    fun createMovieInfos(@RequestBody @Valid movieInfos: Flux<MovieInfo>): Flux<MovieInfo> {
+        return movieInfoService.saveMovieInfos(movieInfos)
+    }
+
     @PutMapping("/movie_infos/{id}")
     @ResponseStatus(HttpStatus.OK)
     fun updateMovieInfo(@PathVariable("id") movieInfoId: Long, @RequestBody movieInfo: MovieInfo): Flux<MovieInfo> {
@@ -0,0 +1,33 @@
+package com.movies.domain
+
+import com.movies.exception.InvalidFieldException
+import java.util.EnumSet
+
+enum class MovieInfoField(val jsonName: String, val column: String, val value: (MovieInfo) -> Any?) {
+    MOVIE_INFO_ID("movieInfoId", "movie_info_id", MovieInfo::movieInfoId),
+    NAME("name", "name", MovieInfo::name),
+    YEAR("year", "year", MovieInfo::year),
+    CAST("cast", "cast", MovieInfo::cast),
+    RELEASE_DATE("release_date", "release_date", MovieInfo::release_date);
+
+    companion object {
+        val ALL: Set<MovieInfoField> = EnumSet.allOf(MovieInfoField::class.java)
+
+        fun parse(fields: String?): Set<MovieInfoField> {
+            if (fields.isNullOrBlank()) {
+                return ALL
+            }
+            return fields.split(',')
+                .map { it.trim() }
+                .filter { it.isNotEmpty() }
+                .mapTo(EnumSet.noneOf(MovieInfoField::class.java)) { name ->
+                    values().firstOrNull { it.jsonName == name }
+                        ?: throw InvalidFieldException("Unknown movie info field: $name")
+                }
+        }
+
+        fun project(movieInfo: MovieInfo, fields: Set<MovieInfoField>): Map<String, Any?> {
+            return fields.associate { it.jsonName to it.value(movieInfo) }
+        }
+    }
+}
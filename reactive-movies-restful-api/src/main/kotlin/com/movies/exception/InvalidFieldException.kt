@@ -0,0 +1,7 @@
+package com.movies.exception
+
+import java.lang.RuntimeException
+
+class InvalidFieldException(message : String?) : RuntimeException(message) {
+
+}
@@ -1,5 +1,6 @@
 package com.movies.exceptionHandler
 
+import com.movies.exception.InvalidFieldException
 import mu.KLogging
 import org.springframework.http.HttpHeaders
 import org.springframework.http.HttpStatus
@@ -25,6 +26,12 @@ class ControllerAdvice {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ex.message)
     }
 
+    @ExceptionHandler(InvalidFieldException::class)
+    fun handleInvalidFieldException(ex: InvalidFieldException): ResponseEntity<String?> {
+        logger.error("Invalid fields requested : {} ", ex.message)
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.message)
+    }
+
     @ExceptionHandler(WebExchangeBindException::class)
     fun handleMethodArgumentNotValid(
         ex: WebExchangeBindException,
@@ -2,44 +2,87 @@ package com.movies.service
 
 import com.movies.domain.Cast
 import com.movies.domain.MovieInfo
+import com.movies.domain.MovieInfoField
 import com.movies.exception.MovieInfoNotFoundException
 import mu.KLogging
+import org.springframework.data.domain.Sort
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate
+import org.springframework.data.relational.core.query.Criteria
 import org.springframework.data.relational.core.query.Criteria.where
 import org.springframework.data.relational.core.query.Query
 import org.springframework.data.relational.core.query.Query.query
 import org.springframework.stereotype.Service
+import org.springframework.transaction.reactive.TransactionalOperator
 import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
 import reactor.core.publisher.Mono.error
 
 @Service
-class MovieInfoService(val r2dbcEntityTemplate: R2dbcEntityTemplate) {
+class MovieInfoService(
+    val r2dbcEntityTemplate: R2dbcEntityTemplate,
+    val transactionalOperator: TransactionalOperator
+) {
 
     companion object : KLogging() {
     }
 
-    fun getAllMovies(): Flux<MovieInfo> {
-        return r2dbcEntityTemplate.select(MovieInfo::class.java)
-            .all()
-            .sort(compareBy {
-                it.movieInfoId
-            })
+    fun getAllMovies(fields: Set<MovieInfoField> = MovieInfoField.ALL): Flux<MovieInfo> {
+        return r2dbcEntityTemplate.select(
+            Query.empty().sort(Sort.by("movie_info_id")).project(fields),
+            MovieInfo::class.java
+        )
+    }
+
+    fun getMoviesPage(
+        afterMovieInfoId: Long?,
+        limit: Int,
+        fields: Set<MovieInfoField> = MovieInfoField.ALL
+    ): Flux<MovieInfo> {
+        val criteria = if (afterMovieInfoId == null) Criteria.empty()
+        else where("movie_info_id").greaterThan(afterMovieInfoId)
+        return r2dbcEntityTemplate.select(
+            query(criteria).sort(Sort.by("movie_info_id")).limit(limit).project(fields),
+            MovieInfo::class.java
+        )
     }
 
-    fun getMovieById(movieInfoId: Long): Mono<MovieInfo> {
-        return r2dbcEntityTemplate.select(query(where("movie_info_id").`is`(movieInfoId)), MovieInfo::class.java)
+    fun getMovieById(movieInfoId: Long, fields: Set<MovieInfoField> = MovieInfoField.ALL): Mono<MovieInfo> {
+        return r2dbcEntityTemplate.select(
+            query(where("movie_info_id").`is`(movieInfoId)).project(fields),
+            MovieInfo::class.java
+        )
             .collectList()
             .flatMap {
                 Mono.just(it[0])
             }
     }
 
+    fun getMoviesByIds(movieInfoIds: List<Long>, fields: Set<MovieInfoField> = MovieInfoField.ALL): Flux<MovieInfo> {
+        return r2dbcEntityTemplate.select(
+            query(where("movie_info_id").`in`(movieInfoIds)).project(fields),
+            MovieInfo::class.java
+        )
+    }
+
+    private fun Query.project(fields: Set<MovieInfoField>): Query {
+        return if (fields == MovieInfoField.ALL) this else columns(fields.map { it.column })
+    }
+
 
     fun saveMovieInfo(movieInfo: MovieInfo): Mono<MovieInfo> {
         return r2dbcEntityTemplate.insert(movieInfo)
     }
 
+    fun saveMovieInfos(movieInfos: Flux<MovieInfo>): Flux<MovieInfo> {
+        // validate the whole chunk before inserting and insert it in one transaction,
+        // so a rejected or failed request leaves nothing behind
+        return transactionalOperator.transactional(
+            movieInfos.collectList()
+                .flatMapMany { Flux.fromIterable(it) }
+                .concatMap { r2dbcEntityTemplate.insert(it) }
+        )
+    }
+
     fun updateMovieInfo(movieInfoId: Long, movieInfo: MovieInfo): Flux<MovieInfo> {
         val movieInfoFromDb =
             r2dbcEntityTemplate.select(query(where("movie_info_id").`is`(movieInfoId)), MovieInfo::class.java)
@@ -67,6 +67,21 @@ class MovieInfoControllerTestIT {
 
     }
 
+    @Test
+    internal fun getMoviesByIds() {
+
+        val first = movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()
+        movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()
+        val third = movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()
+
+        webTestClient.get().uri("/v1/movie_infos/batch?ids={first},{third}", first?.movieInfoId, third?.movieInfoId)
+            .exchange()
+            .expectStatus().isOk
+            .expectBodyList(MovieInfo::class.java)
+            .hasSize(2)
+
+    }
+
     @Test
     internal fun saveMovieInfo() {
 
@@ -79,6 +94,34 @@ class MovieInfoControllerTestIT {
 
     }
 
+    @Test
+    internal fun saveMovieInfos() {
+
+        webTestClient.post().uri("/v1/movie_infos/bulk")
+            .bodyValue(listOf(getMovieInfoKWithCast(), getMovieInfoKWithCast()))
+            .exchange()
+            .expectStatus().isCreated
+            .expectBodyList(MovieInfo::class.java)
+            .hasSize(2)
+
+    }
+
+    @Test
+    internal fun saveMovieInfos_rollsBackWholeChunkOnFailure() {
+
+        val existing = movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()
+        val duplicate = getMovieInfoKWithCast()
+        duplicate.movieInfoId = existing?.movieInfoId
+
+        webTestClient.post().uri("/v1/movie_infos/bulk")
+            .bodyValue(listOf(getMovieInfoKWithCast(), duplicate))
+            .exchange()
+            .expectStatus().is5xxServerError
+
+        assertEquals(1L, movieInfoService.getAllMovies().count().block())
+
+    }
+
     @Test
     internal fun createMovieInfo_missingMovieName() {
 
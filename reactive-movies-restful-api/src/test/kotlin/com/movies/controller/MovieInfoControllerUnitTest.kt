@@ -1,6 +1,7 @@
 package com.movies.controller
 
 import com.movies.domain.MovieInfo
+import com.movies.domain.MovieInfoField
 import com.movies.exception.MovieInfoNotFoundException
 import com.movies.service.MovieInfoService
 import com.movies.util.getMovieInfoKWithCast
@@ -14,6 +15,7 @@ import org.springframework.boot.test.mock.mockito.MockBean
 import org.springframework.test.context.ActiveProfiles
 import org.springframework.test.context.junit.jupiter.SpringExtension
 import org.springframework.test.web.reactive.server.WebTestClient
+import reactor.core.publisher.Flux
 import reactor.core.publisher.Mono
 
 
@@ -47,6 +49,86 @@ class MovieInfoControllerUnitTest {
 
     }
 
+    @Test
+    internal fun getMovieInfosPage() {
+
+        //given
+        val movieInfos = listOf(getMovieInfoKWithCast(3), getMovieInfoKWithCast(4))
+        `when`(movieInfoServiceMock?.getMoviesPage(2, 2)).thenReturn(Flux.fromIterable(movieInfos))
+
+        //when
+        webTestClient.get().uri("/v1/movie_infos?after={after}&limit={limit}", 2, 2)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.length()").isEqualTo(2)
+            .jsonPath("$[0].movieInfoId").isEqualTo(3)
+            .jsonPath("$[1].movieInfoId").isEqualTo(4)
+
+    }
+
+    @Test
+    internal fun getMovieInfosPage_limitIsCapped() {
+
+        //given
+        `when`(movieInfoServiceMock?.getMoviesPage(null, MovieInfoController.MAX_PAGE_SIZE))
+            .thenReturn(Flux.just(getMovieInfoKWithCast(1)))
+
+        //when
+        webTestClient.get().uri("/v1/movie_infos?limit={limit}", 1_000_000)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].movieInfoId").isEqualTo(1)
+
+    }
+
+    @Test
+    internal fun getMovieInfos_sparseFields() {
+
+        //given
+        val fields = setOf(MovieInfoField.MOVIE_INFO_ID, MovieInfoField.NAME)
+        val movieInfo = MovieInfo(1, "The Dark Knight", null, null, null)
+        `when`(movieInfoServiceMock?.getAllMovies(fields)).thenReturn(Flux.just(movieInfo))
+
+        //when
+        webTestClient.get().uri("/v1/movie_infos?fields={fields}", "movieInfoId,name")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].movieInfoId").isEqualTo(1)
+            .jsonPath("$[0].name").isEqualTo("The Dark Knight")
+            .jsonPath("$[0].year").doesNotExist()
+            .jsonPath("$[0].cast").doesNotExist()
+            .jsonPath("$[0].release_date").doesNotExist()
+
+    }
+
+    @Test
+    internal fun getMovieInfos_unknownField() {
+
+        //when
+        webTestClient.get().uri("/v1/movie_infos?fields={fields}", "name,budget")
+            .exchange()
+            .expectStatus().isBadRequest
+            .expectBody(String::class.java)
+            .isEqualTo("Unknown movie info field: budget")
+
+    }
+
+    @Test
+    internal fun getMovieById_unexpectedIllegalArgumentIsServerError() {
+
+        //given
+        `when`(movieInfoServiceMock?.getMovieById(1)).thenReturn(Mono.error(IllegalArgumentException("boom")))
+
+        //when
+        webTestClient.get().uri("/v1/movie_infos/{id}", 1)
+            .exchange()
+            .expectStatus().is5xxServerError
+
+    }
+
     @Test
     internal fun createMovieInfo_missingMovieName() {
 
@@ -1,11 +1,14 @@
 package com.movies.service
 
+import com.movies.domain.MovieInfoField
 import com.movies.exception.MovieInfoNotFoundException
 import com.movies.util.getMovieInfoK
 import com.movies.util.getMovieInfoKWithCast
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
@@ -24,8 +27,18 @@ private class MovieInfoServiceTestIT {
     lateinit var reviewService: ReviewService
 
 
+    @BeforeEach
+    fun setUp() {
+        // DataInitializer seeds the catalog on startup, and the listing tests expect only their own rows
+        deleteAll()
+    }
+
     @AfterEach
     fun tearDown() {
+        deleteAll()
+    }
+
+    private fun deleteAll() {
         reviewService.deleteAllReviews().block()
         movieInfoService.deleteAllMovieInfo()
             .block()
@@ -43,6 +56,38 @@ private class MovieInfoServiceTestIT {
             .verifyComplete()
     }
 
+    @Test
+    fun getMoviesPage() {
+        val savedIds = (1..5).map {
+            movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()?.movieInfoId!!
+        }
+
+        StepVerifier.create(movieInfoService.getMoviesPage(null, 2).map { it.movieInfoId })
+            .expectNext(savedIds[0], savedIds[1])
+            .verifyComplete()
+        StepVerifier.create(movieInfoService.getMoviesPage(savedIds[1], 2).map { it.movieInfoId })
+            .expectNext(savedIds[2], savedIds[3])
+            .verifyComplete()
+        StepVerifier.create(movieInfoService.getMoviesPage(savedIds[3], 2).map { it.movieInfoId })
+            .expectNext(savedIds[4])
+            .verifyComplete()
+    }
+
+    @Test
+    fun getAllMovieInfo_sparseFields() {
+        val savedId = movieInfoService.saveMovieInfo(getMovieInfoKWithCast()).block()?.movieInfoId
+
+        StepVerifier.create(movieInfoService.getAllMovies(setOf(MovieInfoField.MOVIE_INFO_ID, MovieInfoField.NAME)))
+            .assertNext {
+                assertEquals(savedId, it.movieInfoId)
+                assertEquals("The Dark Knight", it.name)
+                assertNull(it.year)
+                assertNull(it.cast)
+                assertNull(it.release_date)
+            }
+            .verifyComplete()
+    }
+
     @Test
     fun getMovieInfoById() {
         val movieInfo = getMovieInfoKWithCast()
@@ -0,0 +1,22 @@
+package com.example.demo;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "movieapp.cache")
+public class MovieAppCacheProperties {
+    private boolean enabled = true;
+    private CacheSpec movieById = new CacheSpec();
+    private CacheSpec moviesByName = new CacheSpec();
+    private CacheSpec moviesByYear = new CacheSpec();
+
+    @Data
+    public static class CacheSpec {
+        private long maximumSize = 10_000;
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private Duration refreshAfterWrite = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "movieapp.health")
+public class MovieAppHealthProperties {
+    private String probePath = "/";
+    private Duration timeout = Duration.ofSeconds(2);
+    private Duration cacheTtl = Duration.ofSeconds(10);
+}
@@ -0,0 +1,17 @@
+package com.example.demo;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "movieapp.load-balancer")
+public class MovieAppLoadBalancerProperties {
+    private List<String> baseUrls = new ArrayList<>();
+    private int failureThreshold = 5;
+    private Duration ejectionDuration = Duration.ofSeconds(10);
+    private Duration maxEjectionDuration = Duration.ofMinutes(5);
+}
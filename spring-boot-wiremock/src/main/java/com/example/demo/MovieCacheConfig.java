@@ -0,0 +1,55 @@
+package com.example.demo;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+@ConditionalOnProperty(prefix = "movieapp.cache", name = "enabled", matchIfMissing = true)
+public class MovieCacheConfig {
+
+    @Bean
+    public CacheManager movieCacheManager(MovieAppCacheProperties cacheProperties,
+                                          ObjectProvider<MoviesRestClient> moviesRestClient) {
+        var cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                caffeineCache(MoviesAppConstants.MOVIE_BY_ID_CACHE, cacheProperties.getMovieById(),
+                        key -> uncached(moviesRestClient).retrieveMovieById((Long) key)),
+                caffeineCache(MoviesAppConstants.MOVIES_BY_NAME_CACHE, cacheProperties.getMoviesByName(),
+                        key -> uncached(moviesRestClient).retrieveMoviesByName((String) key)),
+                caffeineCache(MoviesAppConstants.MOVIES_BY_YEAR_CACHE, cacheProperties.getMoviesByYear(),
+                        key -> uncached(moviesRestClient).retrieveMoviesByYear((Integer) key))));
+        return cacheManager;
+    }
+
+    private static CaffeineCache caffeineCache(String name, MovieAppCacheProperties.CacheSpec spec,
+                                               CacheLoader<Object, Object> loader) {
+        var builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats();
+        var refreshAfterWrite = spec.getRefreshAfterWrite();
+        if (refreshAfterWrite != null && !refreshAfterWrite.isZero()
+                && refreshAfterWrite.compareTo(spec.getExpireAfterWrite()) < 0) {
+            builder.refreshAfterWrite(refreshAfterWrite);
+        }
+        return new CaffeineCache(name, builder.build(loader));
+    }
+
+    // refreshes have to reach the movies service rather than the cache sitting in front of it
+    private static MoviesRestClient uncached(ObjectProvider<MoviesRestClient> moviesRestClient) {
+        var client = moviesRestClient.getObject();
+        return AopProxyUtils.getSingletonTarget(client) instanceof MoviesRestClient target ? target : client;
+    }
+}
@@ -1,17 +1,33 @@
 package com.example.demo;
 
+import com.example.codec.MovieJson;
+import com.example.loadbalancer.LoadBalancerFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @SpringBootApplication
+@EnableConfigurationProperties({MovieAppHttpProperties.class, MovieAppLoadBalancerProperties.class,
+        MovieAppCacheProperties.class, MovieAppHealthProperties.class})
 public class MovieClientApplication {
+    private static final Pattern NUMERIC_PATH_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final ObjectMapper MOVIE_OBJECT_MAPPER =
+            MovieJson.objectMapper(MovieJson.movieInfoModule(MovieInfo.class, MovieInfo::new));
 
     public static void main(String[] args) {
         SpringApplication.run(MovieClientApplication.class, args);
@@ -20,16 +36,59 @@ public class MovieClientApplication {
     @Value("${movieapp.baseUrl}")
     private String baseUrl;
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider moviesConnectionProvider(MovieAppHttpProperties httpProperties) {
+        return ConnectionProvider.builder(httpProperties.getPoolName())
+                .maxConnections(httpProperties.getMaxConnections())
+                .pendingAcquireMaxCount(httpProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(httpProperties.getPendingAcquireTimeout())
+                .maxIdleTime(httpProperties.getMaxIdleTime())
+                .maxLifeTime(httpProperties.getMaxLifeTime())
+                .evictInBackground(httpProperties.getEvictInBackground())
+                .metrics(httpProperties.isMetrics())
+                .build();
+    }
+
+    @Bean
+    public MovieClientMetricsFilter movieClientMetricsFilter(MeterRegistry meterRegistry) {
+        return new MovieClientMetricsFilter(meterRegistry);
+    }
+
     @Bean
-    public WebClient webClient() {
-        var httpClient = HttpClient.create()
+    public WebClient webClient(ConnectionProvider moviesConnectionProvider, MovieAppHttpProperties httpProperties,
+                               MovieClientMetricsFilter movieClientMetricsFilter,
+                               MovieAppLoadBalancerProperties loadBalancerProperties) {
+        var httpClient = HttpClient.create(moviesConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) httpProperties.getConnectTimeout().toMillis())
+                .compress(httpProperties.isCompression())
                 .doOnConnected(connection -> connection
-                        .addHandler(new ReadTimeoutHandler(5))
-                        .addHandler(new WriteTimeoutHandler(5)));
-        return WebClient.builder()
+                        .addHandlerLast(new ReadTimeoutHandler(
+                                httpProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(
+                                httpProperties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+        if (httpProperties.isMetrics()) {
+            httpClient = httpClient.metrics(true, MovieClientApplication::uriTag);
+        }
+        if (httpProperties.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+        var builder = WebClient.builder()
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .build();
+                .exchangeStrategies(MovieJson.exchangeStrategies(MOVIE_OBJECT_MAPPER))
+                .filter(movieClientMetricsFilter);
+        if (!loadBalancerProperties.getBaseUrls().isEmpty()) {
+            builder.filter(new LoadBalancerFilter(loadBalancerProperties.getBaseUrls(),
+                    loadBalancerProperties.getFailureThreshold(),
+                    loadBalancerProperties.getEjectionDuration(),
+                    loadBalancerProperties.getMaxEjectionDuration()));
+        }
+        return builder.build();
+    }
+
+    private static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        return NUMERIC_PATH_SEGMENT.matcher(query < 0 ? uri : uri.substring(0, query)).replaceAll("/{id}");
     }
 
 }
@@ -0,0 +1,75 @@
+package com.example.demo;
+
+import com.example.metrics.ExchangeRecorder;
+import com.example.metrics.MetricsFilter;
+import com.example.metrics.OperationMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+public class MovieClientMetricsFilter implements ExchangeFilterFunction, ExchangeRecorder {
+    public static final String REQUESTS = "movieapp.client.requests";
+    public static final String TIME_TO_FIRST_BYTE = "movieapp.client.time.to.first.byte";
+    public static final String DECODE = "movieapp.client.decode";
+    public static final String PAYLOAD = "movieapp.client.payload";
+    public static final String IO_ERROR = OperationMetrics.IO_ERROR;
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsFilter metricsFilter;
+
+    public MovieClientMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.metricsFilter = new MetricsFilter(this);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return metricsFilter.filter(request, next);
+    }
+
+    @Override
+    public void recordExchange(String operation, int statusCode, long latencyNanos, long timeToFirstByteNanos,
+                               long decodeNanos, long payloadBytes) {
+        requestTimer(operation, OperationMetrics.statusClass(statusCode)).record(latencyNanos, TimeUnit.NANOSECONDS);
+        operationTimer(TIME_TO_FIRST_BYTE, operation).record(timeToFirstByteNanos, TimeUnit.NANOSECONDS);
+        operationTimer(DECODE, operation).record(decodeNanos, TimeUnit.NANOSECONDS);
+        payloadSummary(operation).record(payloadBytes);
+    }
+
+    @Override
+    public void recordError(String operation, long latencyNanos) {
+        requestTimer(operation, IO_ERROR).record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer requestTimer(String operation, String status) {
+        return Timer.builder(REQUESTS)
+                .description("Movies service calls from first request byte to fully decoded response")
+                .tag("operation", operation)
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer operationTimer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary payloadSummary(String operation) {
+        return DistributionSummary.builder(PAYLOAD)
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -10,4 +10,8 @@ public class MoviesAppConstants {
     public static final String MOVIE_BY_NAME_QUERY_PARAM_V1 = "/movies/v1/movie_infos/movieName";
     public static final String MOVIE_BY_YEAR_QUERY_PARAM_V1 = "/movies/v1/movie_infos/movieYear";
     public static final String ADD_MOVIE_V1 = "/movies/v1/movie_infos";
+    public static final String OPERATION_ATTRIBUTE = "movies.operation";
+    public static final String MOVIE_BY_ID_CACHE = "movie-by-id";
+    public static final String MOVIES_BY_NAME_CACHE = "movies-by-name";
+    public static final String MOVIES_BY_YEAR_CACHE = "movies-by-year";
 }
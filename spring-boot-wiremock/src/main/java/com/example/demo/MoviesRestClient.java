@@ -2,6 +2,9 @@ package com.example.demo;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -19,6 +22,7 @@ public class MoviesRestClient {
 
         try {
             return webClient.get().uri(MoviesAppConstants.GET_ALL_MOVIES_V1)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "retrieveAllMovies")
                     .retrieve()
                     .bodyToFlux(MovieInfo.class)
                     .collectList()
@@ -34,9 +38,11 @@ public class MoviesRestClient {
         }
     }
 
+    @Cacheable(cacheNames = MoviesAppConstants.MOVIE_BY_ID_CACHE, sync = true)
     public MovieInfo retrieveMovieById(Long movieId) {
         try {
             return webClient.get().uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "retrieveMovieById")
                     .retrieve()
                     .bodyToMono(MovieInfo.class)
                     .block();
@@ -51,6 +57,7 @@ public class MoviesRestClient {
         }
     }
 
+    @Cacheable(cacheNames = MoviesAppConstants.MOVIES_BY_NAME_CACHE, sync = true)
     public List<MovieInfo> retrieveMoviesByName(String name) {
         String retrieveByNameUri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)
                 .queryParam("movie_name", name)
@@ -60,6 +67,7 @@ public class MoviesRestClient {
         try {
             return webClient.get()
                     .uri(retrieveByNameUri)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "retrieveMoviesByName")
                     .retrieve()
                     .bodyToFlux(MovieInfo.class)
                     .collectList()
@@ -75,6 +83,7 @@ public class MoviesRestClient {
         }
     }
 
+    @Cacheable(cacheNames = MoviesAppConstants.MOVIES_BY_YEAR_CACHE, sync = true)
     public List<MovieInfo> retrieveMoviesByYear(Integer year) {
         String retrieveByYearUri = UriComponentsBuilder.fromUriString(MoviesAppConstants.MOVIE_BY_YEAR_QUERY_PARAM_V1)
                 .queryParam("year", year)
@@ -84,6 +93,7 @@ public class MoviesRestClient {
         try {
             return webClient.get()
                     .uri(retrieveByYearUri)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "retrieveMoviesByYear")
                     .retrieve()
                     .bodyToFlux(MovieInfo.class)
                     .collectList()
@@ -99,11 +109,17 @@ public class MoviesRestClient {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MoviesAppConstants.MOVIES_BY_NAME_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = MoviesAppConstants.MOVIES_BY_YEAR_CACHE, key = "#movieInfo.year",
+                    condition = "#movieInfo.year != null")
+    })
     public MovieInfo addMovie(MovieInfo movieInfo) {
         try {
             return webClient.post()
                     .uri(MoviesAppConstants.ADD_MOVIE_V1)
                     .bodyValue(movieInfo)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "addMovie")
                     .retrieve()
                     .bodyToMono(MovieInfo.class)
                     .block();
@@ -118,11 +134,18 @@ public class MoviesRestClient {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MoviesAppConstants.MOVIE_BY_ID_CACHE, key = "#movieId.longValue()",
+                    condition = "#movieId != null"),
+            @CacheEvict(cacheNames = {MoviesAppConstants.MOVIES_BY_NAME_CACHE,
+                    MoviesAppConstants.MOVIES_BY_YEAR_CACHE}, allEntries = true)
+    })
     public MovieInfo updateMovie(Integer movieId, MovieInfo movieInfo) {
         try {
             return webClient.put()
                     .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
                     .bodyValue(movieInfo)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "updateMovie")
                     .retrieve()
                     .bodyToMono(MovieInfo.class)
                     .block();
@@ -137,10 +160,17 @@ public class MoviesRestClient {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = MoviesAppConstants.MOVIE_BY_ID_CACHE, key = "#movieId",
+                    condition = "#movieId != null"),
+            @CacheEvict(cacheNames = {MoviesAppConstants.MOVIES_BY_NAME_CACHE,
+                    MoviesAppConstants.MOVIES_BY_YEAR_CACHE}, allEntries = true)
+    })
     public String deleteMovie(Long movieId) {
         try {
             return webClient.delete()
                     .uri(MoviesAppConstants.MOVIE_BY_ID_PATH_PARAM_V1, movieId)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "deleteMovie")
                     .retrieve()
                     .bodyToMono(String.class)
                     .block();
@@ -155,6 +185,10 @@ public class MoviesRestClient {
         }
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {MoviesAppConstants.MOVIE_BY_ID_CACHE, MoviesAppConstants.MOVIES_BY_NAME_CACHE,
+                    MoviesAppConstants.MOVIES_BY_YEAR_CACHE}, allEntries = true)
+    })
     public String deleteMovieByName(String movieName) {
         try {
 
@@ -166,6 +200,7 @@ public class MoviesRestClient {
 
             webClient.delete()
                     .uri(deleteMovieByNameURI)
+                    .attribute(MoviesAppConstants.OPERATION_ATTRIBUTE, "deleteMovieByName")
                     .retrieve()
                     .bodyToMono(Void.class)
                     .block();
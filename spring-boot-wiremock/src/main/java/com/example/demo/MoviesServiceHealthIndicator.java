@@ -0,0 +1,86 @@
+package com.example.demo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+public class MoviesServiceHealthIndicator implements ReactiveHealthIndicator {
+    private final Mono<Health> cachedProbe;
+
+    public MoviesServiceHealthIndicator(ConnectionProvider moviesConnectionProvider,
+                                        MovieAppHealthProperties healthProperties,
+                                        MovieAppLoadBalancerProperties loadBalancerProperties,
+                                        @Value("${movieapp.baseUrl}") String baseUrl) {
+        // with a load balancer, requests go to its endpoints rather than movieapp.baseUrl, so those are probed
+        var baseUrls = loadBalancerProperties.getBaseUrls().isEmpty()
+                ? List.of(baseUrl)
+                : List.copyOf(loadBalancerProperties.getBaseUrls());
+        // no metrics or load-balancer filters: probes must not skew request metrics or eject endpoints
+        var webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(moviesConnectionProvider)))
+                .build();
+        var cacheTtl = healthProperties.getCacheTtl();
+        this.cachedProbe = Mono.defer(() -> probeAll(webClient, baseUrls, healthProperties))
+                .cache(health -> cacheTtl, error -> cacheTtl, () -> cacheTtl);
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return cachedProbe;
+    }
+
+    private Mono<Health> probeAll(WebClient webClient, List<String> baseUrls,
+                                  MovieAppHealthProperties healthProperties) {
+        if (baseUrls.size() == 1) {
+            return probe(webClient, baseUrls.get(0), healthProperties);
+        }
+        return Flux.fromIterable(baseUrls)
+                .flatMapSequential(baseUrl -> probe(webClient, baseUrl, healthProperties))
+                .collectList()
+                .map(endpoints -> {
+                    // the balancer routes around ejected endpoints, so one healthy endpoint keeps the service usable
+                    var up = endpoints.stream().filter(health -> Status.UP.equals(health.getStatus())).count();
+                    var health = up > 0 ? Health.up() : Health.down();
+                    health.withDetail("upEndpoints", up);
+                    for (int i = 0; i < endpoints.size(); i++) {
+                        health.withDetail(baseUrls.get(i), endpoints.get(i));
+                    }
+                    return health.build();
+                });
+    }
+
+    private Mono<Health> probe(WebClient webClient, String baseUrl, MovieAppHealthProperties healthProperties) {
+        long start = System.nanoTime();
+        return webClient.get()
+                .uri(UriComponentsBuilder.fromHttpUrl(baseUrl).path(healthProperties.getProbePath()).build().toUri())
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.rawStatusCode()))
+                .timeout(healthProperties.getTimeout())
+                .map(status -> (status >= 500 ? Health.down() : Health.up())
+                        .withDetail("status", status))
+                .onErrorResume(e -> {
+                    log.warn("Movies service health probe of {} failed: {}", baseUrl, e.toString());
+                    return Mono.just(Health.down().withDetail("error", e.toString()));
+                })
+                .map(health -> health
+                        .withDetail("baseUrl", baseUrl)
+                        .withDetail("latencyMs", (System.nanoTime() - start) / 1_000_000)
+                        .withDetail("checkedAt", Instant.now().toString())
+                        .build());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+
+import java.time.LocalDate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "movieapp.baseUrl=http://localhost:${wiremock.server.port}",
+        "movieapp.cache.enabled=true",
+        "movieapp.cache.movie-by-id.expire-after-write=1m",
+        "movieapp.cache.movie-by-id.refresh-after-write=200ms"
+})
+@AutoConfigureWireMock(port = 0)
+class MovieClientApplicationCacheTests {
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private void stubMovie(long movieId, String name) {
+        stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/" + movieId))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(String.format("{\"movieInfoId\":%d,\"name\":\"%s\",\"year\":2005}", movieId, name))));
+    }
+
+    private void stubMoviesByName(String name) {
+        stubFor(get(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .withQueryParam("movie_name", equalTo(name))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("avengers.json")));
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        stubMovie(1, "Batman Begins");
+
+        moviesRestClient.retrieveMovieById(1L);
+        var movie = moviesRestClient.retrieveMovieById(1L);
+
+        assertThat(movie.getName()).isEqualTo("Batman Begins");
+        verify(exactly(1), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/1")));
+    }
+
+    @Test
+    void shouldServeStaleEntryWhileRefreshing() throws InterruptedException {
+        stubMovie(2, "Batman Begins");
+        moviesRestClient.retrieveMovieById(2L);
+        stubMovie(2, "Batman Begins (Remastered)");
+        Thread.sleep(300);
+
+        assertThat(moviesRestClient.retrieveMovieById(2L).getName()).isEqualTo("Batman Begins");
+
+        for (int i = 0; i < 100 && "Batman Begins".equals(moviesRestClient.retrieveMovieById(2L).getName()); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(moviesRestClient.retrieveMovieById(2L).getName()).isEqualTo("Batman Begins (Remastered)");
+    }
+
+    @Test
+    void shouldEvictMovieOnUpdate() {
+        stubMovie(3, "Batman Begins");
+        stubFor(put(urlPathEqualTo("/movies/v1/movie_infos/3"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"movieInfoId\":3,\"name\":\"Batman Begins\",\"year\":2005}")));
+
+        moviesRestClient.retrieveMovieById(3L);
+        moviesRestClient.updateMovie(3, MovieInfo.builder().name("Batman Begins").year(2005).build());
+        moviesRestClient.retrieveMovieById(3L);
+
+        verify(exactly(2), getRequestedFor(urlPathEqualTo("/movies/v1/movie_infos/3")));
+    }
+
+    @Test
+    void shouldEvictMoviesByNameOnAdd() {
+        stubMoviesByName("Avengers");
+        stubFor(post(urlPathEqualTo(MoviesAppConstants.ADD_MOVIE_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("add-movie.json")));
+
+        moviesRestClient.retrieveMoviesByName("Avengers");
+        moviesRestClient.retrieveMoviesByName("Avengers");
+        moviesRestClient.addMovie(new MovieInfo(null, "Avengers", "Robert Downey Jr",
+                LocalDate.of(2012, 5, 4), 2012));
+        moviesRestClient.retrieveMoviesByName("Avengers");
+
+        verify(exactly(2), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void shouldEvictSubstringMatchesOnAddAndDeleteByName() {
+        stubMoviesByName("Aven");
+        stubFor(post(urlPathEqualTo(MoviesAppConstants.ADD_MOVIE_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("add-movie.json")));
+        stubFor(delete(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1))
+                .willReturn(aResponse().withStatus(200)));
+
+        moviesRestClient.retrieveMoviesByName("Aven");
+        moviesRestClient.addMovie(new MovieInfo(null, "Avengers: Secret Wars", "Robert Downey Jr",
+                LocalDate.of(2027, 5, 7), 2027));
+        moviesRestClient.retrieveMoviesByName("Aven");
+        moviesRestClient.deleteMovieByName("Avengers: Secret Wars");
+        moviesRestClient.retrieveMoviesByName("Aven");
+
+        verify(exactly(3), getRequestedFor(urlPathEqualTo(MoviesAppConstants.MOVIE_BY_NAME_QUERY_PARAM_V1)));
+    }
+
+    @Test
+    void shouldPublishCacheStatistics() {
+        stubMovie(4, "Batman Begins");
+
+        moviesRestClient.retrieveMovieById(4L);
+        moviesRestClient.retrieveMovieById(4L);
+
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", MoviesAppConstants.MOVIE_BY_ID_CACHE, "result", "hit")
+                .functionCounter()
+                .count()).isPositive();
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", MoviesAppConstants.MOVIE_BY_ID_CACHE, "result", "miss")
+                .functionCounter()
+                .count()).isPositive();
+    }
+}
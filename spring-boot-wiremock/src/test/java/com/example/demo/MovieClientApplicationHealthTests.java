@@ -0,0 +1,152 @@
+package com.example.demo;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "movieapp.baseUrl=http://localhost:${wiremock.server.port}",
+        "movieapp.health.probe-path=/ping"
+})
+@AutoConfigureWireMock(port = 0)
+class MovieClientApplicationHealthTests {
+
+    @Autowired
+    ConnectionProvider moviesConnectionProvider;
+
+    @Autowired
+    MovieAppHealthProperties healthProperties;
+
+    @Autowired
+    MovieAppLoadBalancerProperties loadBalancerProperties;
+
+    @Value("${movieapp.baseUrl}")
+    String baseUrl;
+
+    MoviesServiceHealthIndicator healthIndicator;
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void newHealthIndicatorWithEmptyCache() {
+        healthIndicator = new MoviesServiceHealthIndicator(moviesConnectionProvider, healthProperties,
+                loadBalancerProperties, baseUrl);
+    }
+
+    @Test
+    void shouldReportUpAndCacheProbeResult() {
+        stubFor(get(urlPathEqualTo("/ping")).willReturn(notFound()));
+
+        var health = healthIndicator.health().block();
+        healthIndicator.health().block();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("status", 404).containsKey("latencyMs");
+        verify(exactly(1), getRequestedFor(urlPathEqualTo("/ping")));
+    }
+
+    @Test
+    void shouldReportDownOnServerError() {
+        stubFor(get(urlPathEqualTo("/ping")).willReturn(serviceUnavailable()));
+        var clientRequests = clientRequestCount();
+
+        var health = healthIndicator.health().block();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("status", 503);
+        assertThat(clientRequestCount()).isEqualTo(clientRequests);
+    }
+
+    private long clientRequestCount() {
+        return meterRegistry.find(MovieClientMetricsFilter.REQUESTS).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    @Test
+    void shouldReportDownWhenServiceIsUnreachable() {
+        stubFor(get(urlPathEqualTo("/ping")).willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER)));
+
+        var health = healthIndicator.health().block();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsKey("error");
+    }
+
+    private MoviesServiceHealthIndicator loadBalancedHealthIndicator(String... baseUrls) {
+        var properties = new MovieAppLoadBalancerProperties();
+        properties.setBaseUrls(List.of(baseUrls));
+        return new MoviesServiceHealthIndicator(moviesConnectionProvider, healthProperties, properties, baseUrl);
+    }
+
+    private static String unusedBaseUrl() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return String.format("http://localhost:%s", socket.getLocalPort());
+        }
+    }
+
+    @Test
+    void shouldProbeEveryLoadBalancedEndpoint() throws IOException {
+        stubFor(get(urlPathEqualTo("/ping")).willReturn(ok()));
+        var unreachable = unusedBaseUrl();
+
+        var health = loadBalancedHealthIndicator(unreachable, baseUrl).health().block();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("upEndpoints", 1L).containsKeys(unreachable, baseUrl);
+        assertThat(((Health) health.getDetails().get(unreachable)).getStatus()).isEqualTo(Status.DOWN);
+        verify(exactly(1), getRequestedFor(urlPathEqualTo("/ping")));
+    }
+
+    @Test
+    void shouldReportDownWhenEveryLoadBalancedEndpointIsDown() throws IOException {
+        stubFor(get(urlPathEqualTo("/ping")).willReturn(ok()));
+
+        var health = loadBalancedHealthIndicator(unusedBaseUrl(), unusedBaseUrl()).health().block();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("upEndpoints", 0L);
+        verify(exactly(0), getRequestedFor(urlPathEqualTo("/ping")));
+    }
+
+    @Test
+    void shouldPublishConnectionPoolAndEventLoopGauges() {
+        stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        moviesRestClient.retrieveAllMovies();
+
+        for (var gauge : new String[]{"active.connections", "idle.connections", "pending.connections"}) {
+            assertThat(meterRegistry.find("reactor.netty.connection.provider." + gauge)
+                    .tag("name", "movies")
+                    .gauge()).as(gauge).isNotNull();
+        }
+        assertThat(meterRegistry.find("reactor.netty.eventloop.pending.tasks").gauges()).isNotEmpty();
+        assertThat(meterRegistry.find("reactor.netty.http.client.response.time")
+                .tag("uri", MoviesAppConstants.GET_ALL_MOVIES_V1)
+                .timer()).isNotNull();
+    }
+}
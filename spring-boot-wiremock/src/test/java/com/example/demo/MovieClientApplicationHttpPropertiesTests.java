@@ -0,0 +1,50 @@
+package com.example.demo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "movieapp.baseUrl=http://localhost:${wiremock.server.port}",
+        "movieapp.http.max-connections=4",
+        "movieapp.http.pending-acquire-timeout=2s",
+        "movieapp.http.http2=true"
+})
+@AutoConfigureWireMock(port = 0)
+class MovieClientApplicationHttpPropertiesTests {
+
+    @Autowired
+    MovieAppHttpProperties httpProperties;
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @Test
+    void shouldBindHttpProperties() {
+        assertThat(httpProperties.getMaxConnections()).isEqualTo(4);
+        assertThat(httpProperties.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(httpProperties.isHttp2()).isTrue();
+        assertThat(httpProperties.isCompression()).isTrue();
+    }
+
+    @Test
+    void shouldRetrieveAllMoviesThroughConfiguredWebClient() {
+        stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        var movies = moviesRestClient.retrieveAllMovies();
+
+        assertThat(movies).hasSize(10);
+        verify(getRequestedFor(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .withHeader("Accept-Encoding", containing("gzip")));
+    }
+}
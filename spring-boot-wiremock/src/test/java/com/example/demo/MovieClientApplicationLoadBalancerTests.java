@@ -0,0 +1,76 @@
+package com.example.demo;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "movieapp.baseUrl=http://localhost:${wiremock.server.port}",
+        "movieapp.load-balancer.failure-threshold=2"
+})
+@AutoConfigureWireMock(port = 0)
+class MovieClientApplicationLoadBalancerTests {
+    private static final WireMockServer secondServer = new WireMockServer(wireMockConfig().dynamicPort());
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @DynamicPropertySource
+    static void loadBalancerProperties(DynamicPropertyRegistry registry) {
+        secondServer.start();
+        registry.add("movieapp.load-balancer.base-urls[0]", () -> "http://localhost:${wiremock.server.port}");
+        registry.add("movieapp.load-balancer.base-urls[1]", secondServer::baseUrl);
+        registry.add("movieapp.load-balancer.base-urls[2]", MovieClientApplicationLoadBalancerTests::unusedBaseUrl);
+    }
+
+    @AfterAll
+    static void stopSecondServer() {
+        secondServer.stop();
+    }
+
+    private static String unusedBaseUrl() {
+        try (var socket = new ServerSocket(0)) {
+            return "http://localhost:" + socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void shouldBalanceAcrossEndpointsAndFailOverFromUnreachableOne() {
+        stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+        secondServer.stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("[]")));
+
+        var sizes = new ArrayList<Integer>();
+        for (int i = 0; i < 30; i++) {
+            sizes.add(moviesRestClient.retrieveAllMovies().size());
+        }
+
+        assertThat(sizes).contains(10, 0).containsOnly(10, 0);
+        assertThat(findAll(getRequestedFor(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1)))).isNotEmpty();
+        assertThat(secondServer.findAll(getRequestedFor(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))))
+                .isNotEmpty();
+    }
+}
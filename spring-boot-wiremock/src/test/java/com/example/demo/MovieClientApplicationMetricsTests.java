@@ -0,0 +1,71 @@
+package com.example.demo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "movieapp.baseUrl=http://localhost:${wiremock.server.port}")
+@AutoConfigureWireMock(port = 0)
+class MovieClientApplicationMetricsTests {
+
+    @Autowired
+    MoviesRestClient moviesRestClient;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private void awaitCount(String operation, String status, long count) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            var timer = meterRegistry.find(MovieClientMetricsFilter.REQUESTS)
+                    .tags("operation", operation, "status", status)
+                    .timer();
+            if (timer != null && timer.count() >= count) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("no " + status + " requests recorded for " + operation);
+    }
+
+    @Test
+    void shouldRecordRequestMetricsPerOperation() throws InterruptedException {
+        stubFor(get(urlPathEqualTo(MoviesAppConstants.GET_ALL_MOVIES_V1))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBodyFile("all-movies.json")));
+
+        moviesRestClient.retrieveAllMovies();
+        moviesRestClient.retrieveAllMovies();
+
+        awaitCount("retrieveAllMovies", "2xx", 2);
+        var payload = meterRegistry.get(MovieClientMetricsFilter.PAYLOAD)
+                .tag("operation", "retrieveAllMovies")
+                .summary();
+        assertThat(payload.count()).isEqualTo(2);
+        assertThat(payload.max()).isPositive();
+        assertThat(meterRegistry.get(MovieClientMetricsFilter.TIME_TO_FIRST_BYTE)
+                .tag("operation", "retrieveAllMovies")
+                .timer()
+                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MovieClientMetricsFilter.DECODE)
+                .tag("operation", "retrieveAllMovies")
+                .timer()
+                .count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTagStatusClass() throws InterruptedException {
+        stubFor(get(urlPathEqualTo("/movies/v1/movie_infos/100")).willReturn(notFound()));
+
+        assertThatThrownBy(() -> moviesRestClient.retrieveMovieById(100L)).isInstanceOf(MovieErrorResponse.class);
+
+        awaitCount("retrieveMovieById", "4xx", 1);
+    }
+}